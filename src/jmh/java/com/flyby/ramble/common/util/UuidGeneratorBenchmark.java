@@ -0,0 +1,35 @@
+package com.flyby.ramble.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * external_id 생성 비용 (v4: UUID.randomUUID, v7: UuidV7)
+ * <p>
+ * 인덱스 삽입 지역성 차이는 SessionBatchRepositoryTest의 [성능] v4/v7 비교 테스트에서 측정.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidGeneratorBenchmark {
+
+    @Benchmark
+    public UUID v4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID v7() {
+        return UuidV7.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID v7_contended() {
+        return UuidV7.generate();
+    }
+
+}
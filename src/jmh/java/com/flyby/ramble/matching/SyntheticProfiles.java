@@ -0,0 +1,69 @@
+package com.flyby.ramble.matching;
+
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.user.model.Gender;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 합성 프로필 생성기
+ * <p>
+ * 실제 트래픽처럼 일부 언어/지역에 몰리도록 Zipf 분포(s = skew)로 Region(15) × Language(13)를 선택.
+ * NONE은 제외하고, 동일 seed로 항상 같은 분포를 생성.
+ * </p>
+ */
+public final class SyntheticProfiles {
+
+    private static final Region[]   REGIONS   = Arrays.stream(Region.values()).filter(r -> r != Region.NONE).toArray(Region[]::new);
+    private static final Language[] LANGUAGES = Arrays.stream(Language.values()).filter(l -> l != Language.NONE).toArray(Language[]::new);
+    private static final Gender[]   GENDERS   = {Gender.MALE, Gender.FEMALE, Gender.UNKNOWN};
+
+    private SyntheticProfiles() {
+    }
+
+    public static MatchingProfile[] generate(int count, double skew, long seed) {
+        Random random = new Random(seed);
+        double[] regionCdf   = zipfCdf(REGIONS.length, skew);
+        double[] languageCdf = zipfCdf(LANGUAGES.length, skew);
+
+        MatchingProfile[] profiles = new MatchingProfile[count];
+
+        for (int i = 0; i < count; i++) {
+            profiles[i] = MatchingProfile.builder()
+                    .userId((long) i)
+                    .userExternalId(new UUID(seed, i).toString())
+                    .region(REGIONS[pick(regionCdf, random)])
+                    .language(LANGUAGES[pick(languageCdf, random)])
+                    .gender(GENDERS[random.nextInt(10) < 6 ? 0 : (random.nextInt(10) < 9 ? 1 : 2)])
+                    .build();
+            profiles[i].setQueueEntryTime(1_700_000_000_000L + i);
+        }
+
+        return profiles;
+    }
+
+    private static double[] zipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, skew);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, Random random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(idx >= 0 ? idx : -idx - 1, cdf.length - 1);
+    }
+
+}
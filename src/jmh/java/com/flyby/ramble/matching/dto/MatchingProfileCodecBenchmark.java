@@ -0,0 +1,67 @@
+package com.flyby.ramble.matching.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flyby.ramble.common.codec.CompactBinaryCodec;
+import com.flyby.ramble.matching.SyntheticProfiles;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedissonConfig와 동일한 Codec으로 MatchingProfile 인코딩/디코딩 비용 (json: 기존 JsonJacksonCodec, binary: CompactBinaryCodec)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MatchingProfileCodecBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private Codec codec;
+    private MatchingProfile profile;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        JsonJacksonCodec json = new JsonJacksonCodec(objectMapper);
+        codec = "binary".equals(format) ? new CompactBinaryCodec(json, true) : json;
+
+        profile = SyntheticProfiles.generate(1, 1.2, 3L)[0];
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(profile);
+
+        try {
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        ByteBuf buf = Unpooled.wrappedBuffer(encoded);
+
+        try {
+            return codec.getValueDecoder().decode(buf, new org.redisson.client.handler.State());
+        } finally {
+            buf.release();
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.flyby.ramble.matching.engine;
+
+import com.flyby.ramble.matching.SyntheticProfiles;
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.util.QueueCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 3단계 매칭 라운드 (구 pairCandidates/regroupRemaining) 처리량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchingEngineBenchmark {
+
+    @Param({"1000", "20000"})
+    private int candidates;
+
+    @Param({"0.0", "1.2"})
+    private double skew;
+
+    private int[] codes;
+
+    @Setup
+    public void setUp() {
+        MatchingProfile[] profiles = SyntheticProfiles.generate(candidates, skew, 42L);
+
+        codes = new int[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            codes[i] = QueueCode.of(profiles[i]);
+        }
+    }
+
+    @Benchmark
+    public MatchingEngine.Result match() {
+        return MatchingEngine.match(codes);
+    }
+
+}
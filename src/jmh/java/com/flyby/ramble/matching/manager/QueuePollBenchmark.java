@@ -0,0 +1,84 @@
+package com.flyby.ramble.matching.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flyby.ramble.common.codec.CompactBinaryCodec;
+import com.flyby.ramble.matching.SyntheticProfiles;
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.util.QueueCode;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.config.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매칭 tick의 poll 비용 ({@link QueueManager#pollWithProfiles(java.util.Collection, int)}, POLL_WITH_PROFILES 스크립트)
+ * <p>
+ * 대기열 인원 배분(deficit round robin)은 Redis 안에서 실행되므로 실제 Redis가 필요.
+ * 주소는 -Djmh.redis.address(기본 redis://127.0.0.1:6379), DB는 -Djmh.redis.database(기본 15)이며 시작/종료 시 해당 DB를 비움.
+ * 매 호출 후 poll한 인원을 같은 대기열로 재등록하여 대기 인원을 유지.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueuePollBenchmark {
+
+    @Param({"50000"})
+    private int waiting;
+
+    @Param({"2000", "20000"})
+    private int limit;
+
+    private RedissonClient redissonClient;
+    private QueueManager queueManager;
+    private Map<String, List<MatchingProfile>> polled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(System.getProperty("jmh.redis.address", "redis://127.0.0.1:6379"))
+                .setDatabase(Integer.getInteger("jmh.redis.database", 15));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        config.setCodec(new CompactBinaryCodec(new JsonJacksonCodec(objectMapper), true));
+
+        redissonClient = Redisson.create(config);
+        redissonClient.getKeys().flushdb();
+        queueManager = new QueueManager(redissonClient);
+
+        for (MatchingProfile profile : SyntheticProfiles.generate(waiting, 1.2, 11L)) {
+            queueManager.enqueue(profile);
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<MatchingProfile>> poll() {
+        polled = queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit);
+        return polled;
+    }
+
+    @TearDown(Level.Invocation)
+    public void requeue() {
+        List<MatchingProfile> profiles = new ArrayList<>();
+        polled.values().forEach(profiles::addAll);
+        queueManager.requeueAll(profiles);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redissonClient.getKeys().flushdb();
+        redissonClient.shutdown();
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.flyby.ramble.matching.util;
+
+import com.flyby.ramble.matching.SyntheticProfiles;
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 키 생성/파싱 비용 (poll 결과 1000건 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisKeyBuilderBenchmark {
+
+    private MatchingProfile[] profiles;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        profiles = SyntheticProfiles.generate(1000, 1.2, 7L);
+
+        keys = new String[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            keys[i] = RedisKeyBuilder.buildQueueKey(profiles[i]);
+        }
+    }
+
+    @Benchmark
+    public void buildQueueKey(Blackhole bh) {
+        for (MatchingProfile profile : profiles) {
+            bh.consume(RedisKeyBuilder.buildQueueKey(profile));
+        }
+    }
+
+    @Benchmark
+    public void buildProfileKey(Blackhole bh) {
+        for (MatchingProfile profile : profiles) {
+            bh.consume(RedisKeyBuilder.buildProfileKey(profile));
+        }
+    }
+
+    @Benchmark
+    public void parseQueueKey(Blackhole bh) {
+        for (String key : keys) {
+            bh.consume(QueueCode.parse(key));
+        }
+    }
+
+}
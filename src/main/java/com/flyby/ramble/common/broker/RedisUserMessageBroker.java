@@ -0,0 +1,168 @@
+package com.flyby.ramble.common.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flyby.ramble.common.dto.RawJson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 사용자 메시지 전달 (다중 인스턴스)
+ * <p>
+ * 수신자가 이 노드에 연결되어 있으면 바로 전달하고, 아니면 {@link UserLocationRegistry}에서 수신자 노드를 찾아
+ * 그 노드 채널(ws:node:{nodeId})에만 발행. 각 노드는 자기 채널만 구독하므로 노드를 늘려도
+ * 노드당 수신량은 자기 사용자 메시지 수에 비례.
+ * 세션 고정(sticky) 없이 매칭 상대가 서로 다른 노드에 연결되어도 매칭 결과/시그널링이 전달됨.
+ * </p>
+ * <p>
+ * 수신자 노드는 위치 캐시로 찾고 발행은 비동기로 하므로 메시지 전송 경로에서 Redis 응답을 기다리지 않음.
+ * 발행한 채널에 구독자가 없으면 (노드 종료) 이 노드의 위치 캐시를 지우고, 받은 노드에 수신자가 없으면
+ * 모든 노드의 위치 캐시를 무효화.
+ * </p>
+ * <ul>
+ *     <li>websocket.broker.messages{result=local}     : 이 노드에서 바로 전달</li>
+ *     <li>websocket.broker.messages{result=published} : 수신자 노드로 발행</li>
+ *     <li>websocket.broker.messages{result=offline}   : 연결된 노드 없음 (전달하지 않음)</li>
+ *     <li>websocket.broker.messages{result=delivered} : 다른 노드에서 받아 전달</li>
+ *     <li>websocket.broker.messages{result=ignored}   : 받았으나 그 사이 연결 종료</li>
+ *     <li>websocket.broker.messages{result=failed}    : 발행 실패</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "websocket.broker", name = "mode", havingValue = "redis")
+public class RedisUserMessageBroker implements UserMessageBroker {
+    private final RedissonClient redissonClient;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserLocationRegistry userLocationRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final Counter localCounter;
+    private final Counter publishedCounter;
+    private final Counter offlineCounter;
+    private final Counter deliveredCounter;
+    private final Counter ignoredCounter;
+    private final Counter failedCounter;
+
+    private RTopic nodeTopic;
+    private int listenerId;
+
+    public RedisUserMessageBroker(
+            RedissonClient redissonClient,
+            SimpMessagingTemplate messagingTemplate,
+            UserLocationRegistry userLocationRegistry,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        this.messagingTemplate = messagingTemplate;
+        this.userLocationRegistry = userLocationRegistry;
+        this.objectMapper = objectMapper;
+
+        this.localCounter = messageCounter("local", meterRegistry);
+        this.publishedCounter = messageCounter("published", meterRegistry);
+        this.offlineCounter = messageCounter("offline", meterRegistry);
+        this.deliveredCounter = messageCounter("delivered", meterRegistry);
+        this.ignoredCounter = messageCounter("ignored", meterRegistry);
+        this.failedCounter = messageCounter("failed", meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        nodeTopic = redissonClient.getTopic(userLocationRegistry.getNodeChannel(), StringCodec.INSTANCE);
+        listenerId = nodeTopic.addListener(String.class, (channel, message) -> onMessage(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        nodeTopic.removeListener(listenerId);
+    }
+
+    @Override
+    public void sendToUser(String userId, String destination, Object payload) {
+        if (userLocationRegistry.isLocal(userId)) {
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            localCounter.increment();
+            return;
+        }
+
+        String nodeId = userLocationRegistry.locate(userId);
+
+        if (nodeId == null) {
+            offlineCounter.increment();
+            log.debug("연결된 노드 없음, 전달하지 않음: userId={}, destination={}", userId, destination);
+            return;
+        }
+
+        String message;
+
+        try {
+            UserMessageEnvelope envelope = new UserMessageEnvelope(userId, destination,
+                    RawJson.of(objectMapper.writeValueAsString(payload)));
+            message = objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("사용자 메시지 직렬화 실패: userId=" + userId, e);
+        }
+
+        redissonClient.getTopic(UserLocationRegistry.nodeChannel(nodeId), StringCodec.INSTANCE)
+                .publishAsync(message)
+                .whenComplete((receivers, e) -> onPublished(userId, destination, receivers, e));
+    }
+
+    private void onPublished(String userId, String destination, Long receivers, Throwable e) {
+        if (e != null) {
+            failedCounter.increment();
+            log.error("사용자 메시지 발행 실패: userId={}, destination={}", userId, destination, e);
+            return;
+        }
+
+        publishedCounter.increment();
+
+        // 수신 노드가 구독하고 있지 않음 (종료된 노드) → 다음 전송은 Redis에서 다시 조회
+        if (receivers != null && receivers == 0) {
+            userLocationRegistry.evict(userId);
+        }
+    }
+
+    private void onMessage(String message) {
+        UserMessageEnvelope envelope;
+
+        try {
+            envelope = objectMapper.readValue(message, UserMessageEnvelope.class);
+        } catch (JsonProcessingException e) {
+            log.error("사용자 메시지 파싱 실패, 무시: {}", message, e);
+            return;
+        }
+
+        if (!userLocationRegistry.isLocal(envelope.userId())) {
+            ignoredCounter.increment();
+            // 보낸 노드의 위치 캐시가 오래되었을 수 있으므로 무효화
+            userLocationRegistry.publishChanged(envelope.userId());
+            return;
+        }
+
+        try {
+            messagingTemplate.convertAndSendToUser(envelope.userId(), envelope.destination(), envelope.payload());
+            deliveredCounter.increment();
+        } catch (Exception e) {
+            log.error("사용자 메시지 전달 실패: userId={}, destination={}", envelope.userId(), envelope.destination(), e);
+        }
+    }
+
+    private static Counter messageCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("websocket.broker.messages")
+                .description("사용자 대상 메시지 전달 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
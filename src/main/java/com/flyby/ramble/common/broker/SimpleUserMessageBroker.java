@@ -0,0 +1,21 @@
+package com.flyby.ramble.common.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 노드의 simple broker로만 전달 (단일 인스턴스)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "websocket.broker", name = "mode", havingValue = "simple", matchIfMissing = true)
+public class SimpleUserMessageBroker implements UserMessageBroker {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void sendToUser(String userId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(userId, destination, payload);
+    }
+}
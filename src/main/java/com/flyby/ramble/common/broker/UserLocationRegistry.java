@@ -0,0 +1,215 @@
+package com.flyby.ramble.common.broker;
+
+import com.flyby.ramble.common.properties.WebSocketProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 사용자 연결 위치 (userId → nodeId)
+ * <p>
+ * STOMP CONNECT 시 기록하고 DISCONNECT 시 제거. 다른 노드는 이 값으로 수신자 소켓을 가진 노드의 채널에만 발행.
+ * 다른 노드로 재연결한 뒤 이전 노드의 DISCONNECT가 늦게 도착해도 지우지 않도록 값이 이 노드일 때만 제거하고,
+ * 같은 노드에 종료 세션 외 다른 세션이 남아 있으면 유지. 노드가 비정상 종료된 경우를 위해 TTL 설정하고,
+ * 연결이 TTL보다 오래 유지되어도 만료되지 않도록 이 노드에 연결된 사용자의 TTL을 주기적으로 갱신.
+ * </p>
+ * <p>
+ * 다른 노드 사용자 위치는 노드 로컬 캐시(userId → nodeId)를 먼저 확인하여 메시지마다 Redis를 조회하지 않음.
+ * 연결/종료로 위치가 바뀌면 {@link #LOCATION_CHANGED} 채널로 모든 노드의 항목을 무효화하고,
+ * 놓친 알림에 대비해 (재)구독 시 전체 무효화 + 항목은 websocket.broker.location-cache-ttl 후 만료.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "websocket.broker", name = "mode", havingValue = "redis")
+public class UserLocationRegistry {
+
+    static final String LOCATION = "ws:user:node";  // 사용자 연결 노드 키 prefix → ws:user:node:{userId}
+    static final String NODE_CHANNEL = "ws:node";   // 노드별 사용자 메시지 채널 prefix → ws:node:{nodeId}
+    static final String LOCATION_CHANGED = "ws:user:node:changed"; // 위치 변경 알림 채널 (노드별 위치 캐시 무효화)
+    static final Duration LOCATION_TTL = Duration.ofHours(12);
+    static final int LOCATION_CACHE_SIZE = 100000;   // 노드별 위치 캐시 최대 항목 수
+
+    private final RedissonClient redissonClient;
+    private final SimpUserRegistry userRegistry;
+    private final String nodeId;
+    private final Cache<String, String> locationCache;
+
+    private RTopic changedTopic;
+    private int messageListenerId;
+    private int statusListenerId;
+
+    public UserLocationRegistry(
+            RedissonClient redissonClient,
+            SimpUserRegistry userRegistry,
+            WebSocketProperties webSocketProperties
+    ) {
+        this.redissonClient = redissonClient;
+        this.userRegistry = userRegistry;
+
+        String configured = webSocketProperties.getBroker().getNodeId();
+        this.nodeId = StringUtils.hasText(configured) ? configured : UUID.randomUUID().toString();
+        log.info("WebSocket 노드 ID: {}", nodeId);
+
+        this.locationCache = Caffeine.newBuilder()
+                .expireAfterWrite(webSocketProperties.getBroker().getLocationCacheTtl())
+                .maximumSize(LOCATION_CACHE_SIZE)
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        changedTopic = redissonClient.getTopic(LOCATION_CHANGED, StringCodec.INSTANCE);
+
+        // 위치가 바뀐 사용자 ID
+        messageListenerId = changedTopic.addListener(String.class, (channel, userId) -> locationCache.invalidate(userId));
+        // 연결이 끊긴 동안 놓친 알림이 있을 수 있으므로 (재)구독 시 전체 무효화
+        statusListenerId = changedTopic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                locationCache.invalidateAll();
+            }
+        });
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        changedTopic.removeListener(messageListenerId, statusListenerId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getNodeChannel() {
+        return nodeChannel(nodeId);
+    }
+
+    /**
+     * 사용자가 이 노드에 연결됨
+     */
+    public void register(String userId) {
+        bucket(userId).set(nodeId, LOCATION_TTL);
+        publishChanged(userId);
+    }
+
+    /**
+     * 사용자 세션 종료. 이 노드에 종료 세션 외 남은 세션이 없고 위치가 이 노드일 때만 제거
+     *
+     * @param userId    사용자 ID
+     * @param sessionId 종료되는 STOMP 세션 ID
+     */
+    public void unregister(String userId, String sessionId) {
+        if (hasOtherSession(userId, sessionId)) {
+            return;
+        }
+
+        if (bucket(userId).compareAndSet(nodeId, null)) {
+            publishChanged(userId);
+        }
+    }
+
+    /**
+     * 사용자 위치 TTL 갱신. 위치가 없으면 이 노드로 기록하고, 다른 노드를 가리키면 (더 최근 연결) 유지
+     */
+    public void refresh(String userId) {
+        RBucket<String> bucket = bucket(userId);
+
+        if (bucket.setIfAbsent(nodeId, LOCATION_TTL)) {
+            return;
+        }
+
+        if (nodeId.equals(bucket.get())) {
+            bucket.expire(LOCATION_TTL);
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 사용자 위치 TTL 갱신 (STOMP heartbeat를 사용하지 않으므로 주기적으로 갱신)
+     */
+    @Scheduled(fixedDelayString = "${websocket.broker.location-refresh-interval:1h}")
+    public void refreshLocalUsers() {
+        for (SimpUser user : userRegistry.getUsers()) {
+            try {
+                refresh(user.getName());
+            } catch (Exception e) {
+                log.warn("사용자 연결 위치 갱신 실패: userId={}", user.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 노드 로컬 캐시를 먼저 확인하고, 없으면 Redis에서 조회한 뒤 캐시에 저장 (연결되어 있지 않으면 저장하지 않음)
+     *
+     * @return 사용자가 연결된 노드 ID (연결되어 있지 않으면 null)
+     */
+    public String locate(String userId) {
+        String located = locationCache.getIfPresent(userId);
+
+        if (located != null) {
+            return located;
+        }
+
+        located = bucket(userId).get();
+
+        if (located != null) {
+            locationCache.put(userId, located);
+        }
+
+        return located;
+    }
+
+    /**
+     * 위치 캐시 항목이 더 이상 유효하지 않음 (수신 노드 없음 등). 이 노드의 항목만 제거
+     */
+    public void evict(String userId) {
+        locationCache.invalidate(userId);
+    }
+
+    /**
+     * 모든 노드의 위치 캐시 항목 무효화 (수신 노드에 사용자가 없어 무시한 경우 등)
+     */
+    public void publishChanged(String userId) {
+        changedTopic.publishAsync(userId);
+    }
+
+    public boolean isLocal(String userId) {
+        return userRegistry.getUser(userId) != null;
+    }
+
+    /**
+     * SessionDisconnectEvent에서 종료 세션이 레지스트리에서 먼저 빠지고 DISCONNECT가 전달되므로
+     * 세션 수가 아닌 종료 세션 외 다른 세션 존재 여부로 확인
+     */
+    private boolean hasOtherSession(String userId, String sessionId) {
+        SimpUser user = userRegistry.getUser(userId);
+
+        return user != null && user.getSessions().stream()
+                .anyMatch(session -> !session.getId().equals(sessionId));
+    }
+
+    static String nodeChannel(String nodeId) {
+        return NODE_CHANNEL + ":" + nodeId;
+    }
+
+    private RBucket<String> bucket(String userId) {
+        return redissonClient.getBucket(LOCATION + ":" + userId, StringCodec.INSTANCE);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.flyby.ramble.common.broker;
+
+/**
+ * 사용자 대상(/user/**) 메시지 전달. websocket.broker.mode 로 구현 선택
+ */
+public interface UserMessageBroker {
+    void sendToUser(String userId, String destination, Object payload);
+}
@@ -0,0 +1,17 @@
+package com.flyby.ramble.common.broker;
+
+import com.flyby.ramble.common.dto.RawJson;
+
+/**
+ * 노드 간 전달되는 사용자 대상 메시지
+ *
+ * @param userId      수신자 ID
+ * @param destination 사용자 destination (/user 제외, 예: /queue/signal)
+ * @param payload     직렬화된 페이로드 (수신 노드에서 해석하지 않고 그대로 전송)
+ */
+public record UserMessageEnvelope(
+        String userId,
+        String destination,
+        RawJson payload
+) {
+}
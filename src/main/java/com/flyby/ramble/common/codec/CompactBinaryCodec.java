@@ -0,0 +1,259 @@
+package com.flyby.ramble.common.codec;
+
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.session.dto.ParticipantData;
+import com.flyby.ramble.session.dto.SessionData;
+import com.flyby.ramble.user.model.Gender;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매칭/세션 값({@link MatchingProfile}, {@link SessionData}) 전용 바이너리 Redisson Codec
+ * <p>
+ * 두 타입은 클래스명/ISO 날짜 문자열 없이 고정 레이아웃으로 기록하고, 그 외 값은 위임 Codec(JSON)으로 처리.
+ * 읽기는 첫 바이트(MAGIC)로 형식을 판별하므로 JSON으로 저장된 기존 값도 그대로 읽을 수 있음.
+ * (JSON 값은 '{', '[', '"' 등 ASCII 문자로 시작)
+ * </p>
+ * <pre>
+ * [ MAGIC(1) | type(1) | version(1) | body ]
+ * 문자열 = length(2, -1 = null) + UTF-8, enum = 이름 문자열 (ordinal 변경에 영향 없음)
+ * </pre>
+ * 롤링 배포 중에는 binaryWrite=false로 두어 모든 노드가 바이너리를 읽을 수 있게 된 뒤 쓰기를 전환.
+ */
+public class CompactBinaryCodec extends BaseCodec {
+
+    static final byte MAGIC   = (byte) 0xB7;
+    static final byte VERSION = 1;
+
+    static final byte TYPE_PROFILE = 1;
+    static final byte TYPE_SESSION = 2;
+
+    private final Codec delegate;
+    private final boolean binaryWrite;
+
+    private final Encoder encoder = this::encode;
+    private final Decoder<Object> decoder = this::decode;
+
+    public CompactBinaryCodec(Codec delegate, boolean binaryWrite) {
+        this.delegate = delegate;
+        this.binaryWrite = binaryWrite;
+    }
+
+    /**
+     * Redisson이 ClassLoader별로 Codec을 복사할 때 사용
+     */
+    public CompactBinaryCodec(ClassLoader classLoader, CompactBinaryCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.delegate), codec.binaryWrite);
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return delegate.getClassLoader();
+    }
+
+    private ByteBuf encode(Object value) throws IOException {
+        if (binaryWrite) {
+            if (value instanceof MatchingProfile profile) {
+                return write(TYPE_PROFILE, buf -> writeProfile(buf, profile));
+            }
+            if (value instanceof SessionData session) {
+                return write(TYPE_SESSION, buf -> writeSession(buf, session));
+            }
+        }
+
+        return delegate.getValueEncoder().encode(value);
+    }
+
+    private Object decode(ByteBuf buf, State state) throws IOException {
+        if (isBinary(buf)) {
+            return read(buf);
+        }
+
+        return delegate.getValueDecoder().decode(buf, state);
+    }
+
+    private static boolean isBinary(ByteBuf buf) {
+        return buf.isReadable() && buf.getByte(buf.readerIndex()) == MAGIC;
+    }
+
+    /* --- 쓰기 --- */
+
+    private interface BodyWriter {
+        void write(ByteBuf buf);
+    }
+
+    private static ByteBuf write(byte type, BodyWriter body) {
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(64);
+
+        try {
+            buf.writeByte(MAGIC).writeByte(type).writeByte(VERSION);
+            body.write(buf);
+            return buf;
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    private static void writeProfile(ByteBuf buf, MatchingProfile profile) {
+        writeNullableLong(buf, profile.getUserId());
+        writeString(buf, profile.getUserExternalId());
+        writeEnum(buf, profile.getRegion());
+        writeEnum(buf, profile.getGender());
+        writeEnum(buf, profile.getLanguage());
+        buf.writeLong(profile.getQueueEntryTime());
+    }
+
+    private static void writeSession(ByteBuf buf, SessionData session) {
+        UUID sessionId = session.sessionId();
+        buf.writeBoolean(sessionId != null);
+        if (sessionId != null) {
+            buf.writeLong(sessionId.getMostSignificantBits());
+            buf.writeLong(sessionId.getLeastSignificantBits());
+        }
+
+        LocalDateTime startedAt = session.startedAt();
+        buf.writeBoolean(startedAt != null);
+        if (startedAt != null) {
+            buf.writeLong(startedAt.toLocalDate().toEpochDay());
+            buf.writeLong(startedAt.toLocalTime().toNanoOfDay());
+        }
+
+        List<ParticipantData> participants = session.participants();
+        int size = participants != null ? participants.size() : -1;
+        buf.writeShort(size);
+
+        for (int i = 0; i < size; i++) {
+            ParticipantData participant = participants.get(i);
+            writeNullableLong(buf, participant.userId());
+            writeString(buf, participant.userExternalId());
+            writeEnum(buf, participant.region());
+            writeEnum(buf, participant.gender());
+            writeEnum(buf, participant.language());
+        }
+    }
+
+    private static void writeNullableLong(ByteBuf buf, Long value) {
+        buf.writeBoolean(value != null);
+        if (value != null) {
+            buf.writeLong(value);
+        }
+    }
+
+    private static void writeEnum(ByteBuf buf, Enum<?> value) {
+        writeString(buf, value != null ? value.name() : null);
+    }
+
+    private static void writeString(ByteBuf buf, String value) {
+        if (value == null) {
+            buf.writeShort(-1);
+            return;
+        }
+
+        buf.writeShort(ByteBufUtil.utf8Bytes(value));
+        buf.writeCharSequence(value, StandardCharsets.UTF_8);
+    }
+
+    /* --- 읽기 --- */
+
+    private static Object read(ByteBuf buf) throws IOException {
+        buf.skipBytes(1); // MAGIC
+        byte type = buf.readByte();
+        byte version = buf.readByte();
+
+        if (version > VERSION) {
+            throw new IOException("지원하지 않는 바이너리 버전입니다: type=" + type + ", version=" + version);
+        }
+
+        try {
+            return switch (type) {
+                case TYPE_PROFILE -> readProfile(buf);
+                case TYPE_SESSION -> readSession(buf);
+                default -> throw new IOException("알 수 없는 바이너리 타입입니다: " + type);
+            };
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("바이너리 값 디코딩 실패: type=" + type, e);
+        }
+    }
+
+    private static MatchingProfile readProfile(ByteBuf buf) {
+        Long userId = readNullableLong(buf);
+        String userExternalId = readString(buf);
+        Region region = readEnum(buf, Region.class);
+        Gender gender = readEnum(buf, Gender.class);
+        Language language = readEnum(buf, Language.class);
+        long queueEntryTime = buf.readLong();
+
+        return new MatchingProfile(userId, userExternalId, region, gender, language, queueEntryTime);
+    }
+
+    private static SessionData readSession(ByteBuf buf) {
+        UUID sessionId = buf.readBoolean() ? new UUID(buf.readLong(), buf.readLong()) : null;
+
+        LocalDateTime startedAt = null;
+        if (buf.readBoolean()) {
+            startedAt = LocalDateTime.of(LocalDate.ofEpochDay(buf.readLong()), LocalTime.ofNanoOfDay(buf.readLong()));
+        }
+
+        int size = buf.readShort();
+        List<ParticipantData> participants = null;
+
+        if (size >= 0) {
+            participants = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                participants.add(new ParticipantData(
+                        readNullableLong(buf),
+                        readString(buf),
+                        readEnum(buf, Region.class),
+                        readEnum(buf, Gender.class),
+                        readEnum(buf, Language.class)
+                ));
+            }
+        }
+
+        return new SessionData(sessionId, startedAt, participants);
+    }
+
+    private static Long readNullableLong(ByteBuf buf) {
+        return buf.readBoolean() ? buf.readLong() : null;
+    }
+
+    private static <E extends Enum<E>> E readEnum(ByteBuf buf, Class<E> type) {
+        String name = readString(buf);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static String readString(ByteBuf buf) {
+        int length = buf.readShort();
+        return length >= 0 ? buf.readCharSequence(length, StandardCharsets.UTF_8).toString() : null;
+    }
+
+}
@@ -1,11 +1,69 @@
 package com.flyby.ramble.common.config;
 
+import com.flyby.ramble.common.properties.AsyncProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업별 제한 executor
+ * <ul>
+ *     <li>taskExecutor: @Async 기본 executor. async.common.* 설정 사용</li>
+ *     <li>sessionRecordExecutor: 세션 종료 레코드. async.session-record.* 설정 사용</li>
+ * </ul>
+ * <p>
+ * 큐 크기를 제한하여 DB 지연 시 작업이 메모리에 무한히 쌓이지 않도록 함. 큐가 가득 차면 정책에 따라
+ * 제출한 스레드에서 실행하거나(CALLER_RUNS) 버림(DISCARD).
+ * 스레드/큐 지표(executor.active, executor.queued, executor.queue.remaining 등)는 actuator가 bean 이름으로 등록하고,
+ * rejection 수는 executor.rejected 로 같은 name 태그를 사용하여 기록.
+ * </p>
+ */
 @Configuration
 @EnableAsync
 @EnableRetry
 public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor taskExecutor(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        return boundedExecutor("task", "async-", asyncProperties.getCommon(), meterRegistry);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor sessionRecordExecutor(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        return boundedExecutor("sessionRecord", "session-record-", asyncProperties.getSessionRecord(), meterRegistry);
+    }
+
+    static ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix,
+                                                  AsyncProperties.Pool pool, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("큐 초과로 거부된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        RejectedExecutionHandler policy = switch (pool.getRejection()) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+        };
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler((task, threadPool) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, threadPool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
 }
@@ -3,6 +3,7 @@ package com.flyby.ramble.common.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flyby.ramble.common.codec.CompactBinaryCodec;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.codec.JsonJacksonCodec;
@@ -20,6 +21,9 @@ public class RedissonConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    @Value("${redis.codec.binary-write:false}")
+    private boolean binaryWrite;
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
@@ -31,8 +35,8 @@ public class RedissonConfig {
         objectMapper.registerModule(new JavaTimeModule()); // LocalDateTime 지원
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // 날짜를 ISO 문자열로 저장
 
-        // Redisson Codec에 적용
-        config.setCodec(new JsonJacksonCodec(objectMapper));
+        // Redisson Codec에 적용 (매칭/세션 값은 바이너리, 그 외는 JSON)
+        config.setCodec(new CompactBinaryCodec(new JsonJacksonCodec(objectMapper), binaryWrite));
 
         return Redisson.create(config);
     }
@@ -0,0 +1,61 @@
+package com.flyby.ramble.common.config;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄러 분리
+ * <ul>
+ *     <li>taskScheduler: 일반 @Scheduled 작업 (토큰 정리 등). spring.task.scheduling.* 설정 사용</li>
+ *     <li>matchingTaskScheduler: 매칭 전용. 다른 작업과 서로 지연시키지 않도록 분리</li>
+ *     <li>signalingTaskScheduler: ICE candidate 묶음 전송 전용. DB 플러시 등으로 전송이 지연되지 않도록 분리</li>
+ * </ul>
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final ObjectProvider<ThreadPoolTaskSchedulerBuilder> builderProvider;
+
+    public SchedulingConfig(ObjectProvider<ThreadPoolTaskSchedulerBuilder> builderProvider) {
+        this.builderProvider = builderProvider;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return builderProvider.getIfAvailable(ThreadPoolTaskSchedulerBuilder::new).build();
+    }
+
+    /**
+     * 매칭 전용 스케줄러. 기본 단일 스레드로 매칭 실행을 직렬화
+     */
+    @Bean
+    public ThreadPoolTaskScheduler matchingTaskScheduler(MatchingProperties matchingProperties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(matchingProperties.getWorkerPoolSize());
+        scheduler.setThreadNamePrefix("matching-");
+        return scheduler;
+    }
+
+    /**
+     * 시그널링 전용 스케줄러. candidate 묶음 전송 window(기본 20ms) 만료 시 전송
+     */
+    @Bean
+    public ThreadPoolTaskScheduler signalingTaskScheduler(MatchingProperties matchingProperties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(matchingProperties.getSignalingSchedulerPoolSize());
+        scheduler.setThreadNamePrefix("signaling-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler());
+    }
+
+}
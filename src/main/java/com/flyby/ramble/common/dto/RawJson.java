@@ -0,0 +1,63 @@
+package com.flyby.ramble.common.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * 해석하지 않고 그대로 전달하는 JSON 값
+ * <p>
+ * 역직렬화 시 Map/JsonNode 트리를 만들지 않고 토큰을 그대로 복사하여 문자열로 보관하고 (형식 검증 포함),
+ * 직렬화 시 그 문자열을 그대로 기록. 서버가 내용을 보지 않는 페이로드(SDP/ICE 등) 중계용.
+ * </p>
+ *
+ * @param json JSON 문자열
+ */
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public record RawJson(String json) implements JsonSerializable {
+
+    public static RawJson of(String json) {
+        return json == null ? null : new RawJson(json);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+
+    public static class Deserializer extends JsonDeserializer<RawJson> {
+
+        private static final JsonFactory FACTORY = JsonFactory.builder().build();
+
+        @Override
+        public RawJson deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            StringWriter writer = new StringWriter();
+
+            try (JsonGenerator generator = FACTORY.createGenerator(writer)) {
+                generator.copyCurrentStructure(p);
+            }
+
+            return new RawJson(writer.toString());
+        }
+    }
+
+}
@@ -1,12 +1,14 @@
 package com.flyby.ramble.common.interceptor;
 
 import com.flyby.ramble.auth.util.JwtUtil;
+import com.flyby.ramble.common.broker.UserLocationRegistry;
 import com.flyby.ramble.common.constants.JwtConstants;
 import com.flyby.ramble.common.exception.BaseException;
 import com.flyby.ramble.common.exception.ErrorCode;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -19,17 +21,30 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.security.Principal;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
+    // redis 브로커 모드에서만 존재 (사용자 연결 위치 기록)
+    private final ObjectProvider<UserLocationRegistry> userLocationRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            unregisterLocation(accessor.getUser(), accessor.getSessionId());
+            return message;
+        }
+
+        if (!StompCommand.CONNECT.equals(accessor.getCommand())) {
             return message;
         }
 
@@ -40,10 +55,28 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
         Authentication auth = parseAuthentication(authToken);
         SecurityContextHolder.getContext().setAuthentication(auth);
         accessor.setUser(auth);
+        userLocationRegistry.ifAvailable(registry -> registry.register(auth.getName()));
 
         return message;
     }
 
+    /**
+     * 연결 종료 (클라이언트 DISCONNECT, 비정상 종료 시 서버가 보내는 DISCONNECT 모두 포함)
+     */
+    private void unregisterLocation(Principal user, String sessionId) {
+        if (user == null) {
+            return;
+        }
+
+        userLocationRegistry.ifAvailable(registry -> {
+            try {
+                registry.unregister(user.getName(), sessionId);
+            } catch (Exception e) {
+                log.warn("사용자 연결 위치 제거 실패 (TTL 후 만료): userId={}", user.getName(), e);
+            }
+        });
+    }
+
     private Authentication parseAuthentication(String authToken) {
         try {
             return jwtUtil.parseAuthentication(authToken);
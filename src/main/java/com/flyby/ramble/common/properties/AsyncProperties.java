@@ -0,0 +1,47 @@
+package com.flyby.ramble.common.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+
+    private Pool common = new Pool();           // @Async 기본 executor (taskExecutor)
+
+    private Pool sessionRecord = new Pool();    // 세션 종료 레코드 (sessionRecordExecutor)
+
+    /**
+     * 제한된 스레드 풀. 큐가 가득 차고 maxSize까지 늘어난 뒤에는 rejection 정책 적용
+     */
+    @Setter
+    @Getter
+    public static class Pool {
+
+        @Positive
+        private int coreSize = 2;
+
+        @Positive
+        private int maxSize = 8;
+
+        @PositiveOrZero
+        private int queueCapacity = 1000;
+
+        @NotNull
+        private Rejection rejection = Rejection.CALLER_RUNS;
+
+    }
+
+    public enum Rejection {
+        CALLER_RUNS,    // 제출한 스레드에서 실행 (역압)
+        DISCARD         // 버림. 반환값 없는 작업에만 사용
+    }
+
+}
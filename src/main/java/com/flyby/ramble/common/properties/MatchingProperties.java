@@ -0,0 +1,218 @@
+package com.flyby.ramble.common.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "matching")
+public class MatchingProperties {
+
+    private Trigger trigger = new Trigger();
+
+    private Worker worker = new Worker();
+
+    private Relaxation relaxation = new Relaxation();
+
+    private Expiry expiry = new Expiry();
+
+    private Disconnect disconnect = new Disconnect();
+
+    private Signaling signaling = new Signaling();
+
+    /**
+     * 이벤트 기반 매칭 트리거 (대기열 등록 시 micro-batch 매칭)
+     */
+    @Setter
+    @Getter
+    public static class Trigger {
+
+        private boolean enabled = true;
+
+        @NotNull
+        private Duration window = Duration.ofMillis(100); // 첫 등록 이후 모아서 처리할 시간
+
+        @Positive
+        private int batchThreshold = 100;                 // window 이전이라도 즉시 처리할 등록 수
+
+    }
+
+    /**
+     * 매칭 워커 (전용 스케줄러, tick 예산)
+     */
+    @Setter
+    @Getter
+    public static class Worker {
+
+        @Positive
+        private int poolSize = 1;
+
+        @NotNull
+        private Duration tickInterval = Duration.ofSeconds(2); // fallback 주기 (이전 tick 종료 기준)
+
+        @NotNull
+        private Duration tickBudget = Duration.ofSeconds(1);   // 초과 시 overrun으로 기록
+
+        @Positive
+        private int batchLimitMin = 1000;   // tick당 최대 poll 인원 하한
+
+        @Positive
+        private int batchLimitMax = 20000;  // tick당 최대 poll 인원 상한 (시작값)
+
+        @Positive
+        private int batchLimitStep = 1000;  // 예산 여유가 있을 때 tick마다 늘리는 인원
+
+        @PositiveOrZero
+        private int maxPartitions = 0;      // tick당 최대 처리 파티션 수 (0: 제한 없음). 다중 인스턴스는 파티션 수 / 노드 수
+
+    }
+
+    /**
+     * 대기 시간 기반 조건 완화 (매칭되지 못한 인원의 재등록 대기열 단계)
+     */
+    @Setter
+    @Getter
+    public static class Relaxation {
+
+        @NotNull
+        private Duration languageTierAfter = Duration.ofSeconds(30); // 이후 성별:언어 대기열로 재등록 (지역 조건 제외)
+
+        @NotNull
+        private Duration genderTierAfter = Duration.ofSeconds(90);   // 이후 성별 대기열로 재등록 (언어 조건 제외)
+
+    }
+
+    /**
+     * 대기열 만료 항목 sweep (활성 대기열을 slice 단위로 순회)
+     */
+    @Setter
+    @Getter
+    public static class Expiry {
+
+        @NotNull
+        private Duration sweepInterval = Duration.ofSeconds(1); // slice 처리 주기 (이전 sweep 종료 기준)
+
+        @Positive
+        private int sliceSize = 64;                            // sweep 1회당 확인할 대기열 수
+
+    }
+
+    /**
+     * WebSocket 연결 종료 시 대기열/세션 정리
+     */
+    @Setter
+    @Getter
+    public static class Disconnect {
+
+        private boolean cleanupEnabled = true;
+
+        @NotNull
+        private Duration grace = Duration.ofSeconds(3);         // 마지막 연결 종료 후 정리까지 대기 (재연결 시 정리하지 않음)
+
+    }
+
+    /**
+     * 시그널링 중계 (ICE candidate 묶음 전송)
+     */
+    @Setter
+    @Getter
+    public static class Signaling {
+
+        private boolean coalesceEnabled = false;               // CANDIDATE_BATCH 를 지원하는 클라이언트에서만 활성화
+
+        @NotNull
+        private Duration coalesceWindow = Duration.ofMillis(20); // 첫 candidate 이후 모아서 보낼 시간
+
+        @Positive
+        private int coalesceMaxBatch = 16;                     // window 이전이라도 즉시 보낼 candidate 수
+
+        @Positive
+        private int schedulerPoolSize = 1;                     // candidate 묶음 전송 스케줄러 스레드 수
+
+    }
+
+    public boolean isTriggerEnabled() {
+        return trigger.enabled;
+    }
+
+    public Duration getTriggerWindow() {
+        return trigger.window;
+    }
+
+    public int getTriggerBatchThreshold() {
+        return trigger.batchThreshold;
+    }
+
+    public int getWorkerPoolSize() {
+        return worker.poolSize;
+    }
+
+    public Duration getWorkerTickInterval() {
+        return worker.tickInterval;
+    }
+
+    public Duration getWorkerTickBudget() {
+        return worker.tickBudget;
+    }
+
+    public int getBatchLimitMin() {
+        return worker.batchLimitMin;
+    }
+
+    public int getBatchLimitMax() {
+        return worker.batchLimitMax;
+    }
+
+    public int getBatchLimitStep() {
+        return worker.batchLimitStep;
+    }
+
+    public int getWorkerMaxPartitions() {
+        return worker.maxPartitions;
+    }
+
+    public Duration getLanguageTierAfter() {
+        return relaxation.languageTierAfter;
+    }
+
+    public Duration getGenderTierAfter() {
+        return relaxation.genderTierAfter;
+    }
+
+    public int getExpirySliceSize() {
+        return expiry.sliceSize;
+    }
+
+    public boolean isDisconnectCleanupEnabled() {
+        return disconnect.cleanupEnabled;
+    }
+
+    public Duration getDisconnectGrace() {
+        return disconnect.grace;
+    }
+
+    public boolean isCandidateCoalesceEnabled() {
+        return signaling.coalesceEnabled;
+    }
+
+    public Duration getCandidateCoalesceWindow() {
+        return signaling.coalesceWindow;
+    }
+
+    public int getCandidateCoalesceMaxBatch() {
+        return signaling.coalesceMaxBatch;
+    }
+
+    public int getSignalingSchedulerPoolSize() {
+        return signaling.schedulerPoolSize;
+    }
+
+}
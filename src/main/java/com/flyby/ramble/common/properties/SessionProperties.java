@@ -0,0 +1,82 @@
+package com.flyby.ramble.common.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "session")
+public class SessionProperties {
+
+    private WriteBehind writeBehind = new WriteBehind();
+
+    /**
+     * 세션 DB 저장 write-behind (메모리 큐 + group commit + 로컬 spill 파일)
+     */
+    @Setter
+    @Getter
+    public static class WriteBehind {
+
+        @Positive
+        private int capacity = 50000;                       // 메모리 큐 최대 세션 수. 초과분은 spill 파일로 기록
+
+        @Positive
+        private int batchSize = 500;                        // group commit 1회당 세션 수
+
+        @NotNull
+        private Duration flushInterval = Duration.ofMillis(200); // 플러시 주기 (이전 플러시 종료 기준)
+
+        @NotBlank
+        private String spillPath = "data/session-spill.jsonl";  // spill 파일 경로 (JSON Lines, append-only)
+
+    }
+
+    private Record record = new Record();
+
+    /**
+     * 세션 종료 레코드(session_record) 버퍼 (크기 / 주기 / 종료 시 batch 저장)
+     */
+    @Setter
+    @Getter
+    public static class Record {
+
+        @Positive
+        private int capacity = 20000;                       // 버퍼 최대 레코드 수
+
+        @Positive
+        private int batchSize = 200;                        // batch insert 1회당 레코드 수. 버퍼가 이만큼 차면 즉시 저장
+
+        @NotNull
+        private Duration flushInterval = Duration.ofSeconds(1); // 플러시 주기 (이전 플러시 종료 기준)
+
+    }
+
+    public int getWriteBehindCapacity() {
+        return writeBehind.capacity;
+    }
+
+    public int getWriteBehindBatchSize() {
+        return writeBehind.batchSize;
+    }
+
+    public String getSpillPath() {
+        return writeBehind.spillPath;
+    }
+
+    public int getRecordCapacity() {
+        return record.capacity;
+    }
+
+    public int getRecordBatchSize() {
+        return record.batchSize;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.flyby.ramble.common.properties;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private Broker broker = new Broker();
+
+    /**
+     * 사용자 대상(/user/**) 메시지 전달 방식
+     */
+    @Setter
+    @Getter
+    public static class Broker {
+
+        @NotNull
+        private Mode mode = Mode.SIMPLE;
+
+        private String nodeId;      // redis 모드 노드 식별자 (사용자 위치/노드 채널). 비어 있으면 기동 시 생성
+
+        @NotNull
+        private Duration locationRefreshInterval = Duration.ofHours(1); // 연결된 사용자 위치 TTL(12h) 갱신 주기
+
+        @NotNull
+        private Duration locationCacheTtl = Duration.ofSeconds(30);     // 다른 노드 사용자 위치 로컬 캐시 유지 시간 (무효화 알림 누락 대비)
+
+    }
+
+    public enum Mode {
+        SIMPLE, // 같은 노드에 연결된 사용자에게만 전달 (단일 인스턴스)
+        REDIS   // Redis Pub/Sub으로 다른 노드에 연결된 사용자에게도 전달 (다중 인스턴스)
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.flyby.ramble.common.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서 UUID (RFC 9562 UUIDv7) 생성
+ * <p>
+ * BINARY(16) external_id 인덱스에 시간 순으로 삽입되도록 상위 48bit에 Unix 시각(ms)을 기록.
+ * 같은 ms 안에서는 rand_a(12bit)를 카운터로 사용하여 노드 내 단조 증가를 보장하고,
+ * 카운터가 넘치거나 시계가 뒤로 가면 직전 값의 시각을 이어서 사용. 하위 62bit는 SecureRandom.
+ * </p>
+ * <pre>
+ * [ unix_ts_ms(48) | ver=7(4) | counter(12) | var=10(2) | rand(62) ]
+ * </pre>
+ */
+@UtilityClass
+public class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // 직전 (unix_ts_ms << 12 | counter)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public UUID generate() {
+        long now = System.currentTimeMillis();
+        long state = LAST.updateAndGet(last -> (now > last >>> 12) ? now << 12 : last + 1);
+
+        long msb = (state >>> 12) << 16 | 0x7000L | (state & 0xFFFL);
+        long lsb = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * UUIDv7의 생성 시각 (Unix ms)
+     */
+    public long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUIDv7이 아닙니다: " + uuid);
+        }
+
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+}
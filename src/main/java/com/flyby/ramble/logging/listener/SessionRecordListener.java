@@ -1,7 +1,7 @@
 package com.flyby.ramble.logging.listener;
 
 import com.flyby.ramble.logging.dto.CreateSessionRecordCommandDTO;
-import com.flyby.ramble.logging.service.SessionRecordService;
+import com.flyby.ramble.logging.service.SessionRecordBuffer;
 import com.flyby.ramble.session.event.SessionEndedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,19 +11,23 @@ import org.springframework.stereotype.Component;
 
 /**
  * 세션 레코드 이벤트 리스너
+ * <p>
+ * 레코드는 {@link SessionRecordBuffer}에 모아 batch로 저장. 버퍼가 가득 차 바로 저장하는 경우에도
+ * 이벤트 발행 스레드(세션 종료 처리)가 DB를 기다리지 않도록 비동기로 처리.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SessionRecordListener {
-    private final SessionRecordService sessionRecordService;
+    private final SessionRecordBuffer sessionRecordBuffer;
 
     @EventListener
-    @Async
+    @Async("sessionRecordExecutor")
     public void handle(SessionEndedEvent event) {
         log.debug("received sessionEndedEvent: {}", event);
         try {
-            sessionRecordService.createSessionRecord(
+            sessionRecordBuffer.add(
                     CreateSessionRecordCommandDTO.builder()
                             .sessionUuid(event.getSessionUuid())
                             .startedAt(event.getStartedAt())
@@ -32,7 +36,6 @@ public class SessionRecordListener {
             );
         } catch (Exception e) {
             log.error("세션 레코드 생성 중 에러 발생: sessionUuid={}", event.getSessionUuid(), e);
-            // 필요시 재시도 로직이나 DLQ 처리 추가
         }
     }
 }
@@ -0,0 +1,53 @@
+package com.flyby.ramble.logging.repository.meta;
+
+import com.flyby.ramble.common.util.UuidUtil;
+import com.flyby.ramble.logging.dto.CreateSessionRecordCommandDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SessionRecordBatchRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 세션 레코드 batch insert (멱등)
+     * <p>
+     * 이미 저장된 record_uuid(uk_session_record_uuid)는 갱신 없이 건너뜀.
+     * INSERT IGNORE는 중복 외 오류(길이 초과, NULL 등)도 경고로 바꾸므로 ON DUPLICATE KEY UPDATE no-op 사용.
+     * </p>
+     */
+    public void insertIgnoreDuplicates(List<CreateSessionRecordCommandDTO> records) {
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+            INSERT INTO session_record (record_uuid, started_at, ended_at, duration_seconds, created_at, modified_at)
+            VALUES (:record_uuid, :started_at, :ended_at, :duration_seconds, :created_at, :modified_at)
+            ON DUPLICATE KEY UPDATE record_uuid = record_uuid
+            """;
+
+        LocalDateTime now = LocalDateTime.now();
+
+        SqlParameterSource[] batch = records.stream()
+                .map(record -> new MapSqlParameterSource()
+                        .addValue("record_uuid", UuidUtil.uuidToBytes(record.getSessionUuid()))
+                        .addValue("started_at", record.getStartedAt())
+                        .addValue("ended_at", record.getEndedAt())
+                        .addValue("duration_seconds", Duration.between(record.getStartedAt(), record.getEndedAt()).getSeconds())
+                        .addValue("created_at", now)
+                        .addValue("modified_at", now))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+}
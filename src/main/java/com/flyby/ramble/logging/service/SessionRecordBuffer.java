@@ -0,0 +1,201 @@
+package com.flyby.ramble.logging.service;
+
+import com.flyby.ramble.common.properties.SessionProperties;
+import com.flyby.ramble.logging.dto.CreateSessionRecordCommandDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션 종료 레코드 버퍼
+ * <p>
+ * 종료 이벤트마다 저장하지 않고 버퍼에 모아 batchSize 단위로 batch insert.
+ * 버퍼가 batchSize만큼 차면 넣은 스레드에서 바로 저장하고 (통화 종료 burst), 그 외에는 flushInterval 주기 및 종료 시 저장.
+ * 저장이 멱등(uk_session_record_uuid 중복 건너뜀)이므로 일시적 DB 장애 시 batch를 버퍼에 되돌려 다음 플러시에서 재시도.
+ * 그 외 오류는 한 건씩 저장하여 저장할 수 없는 레코드만 버림 (재시도하면 이후 플러시가 모두 막힘).
+ * </p>
+ * <ul>
+ *     <li>session.record.buffer.size    : 저장 대기 레코드 수</li>
+ *     <li>session.record.flushed        : DB에 저장한 레코드 수 (중복 포함)</li>
+ *     <li>session.record.dropped        : 버퍼 초과로 버린 레코드 수</li>
+ *     <li>session.record.rejected       : 데이터 오류로 저장하지 못한 레코드 수</li>
+ *     <li>session.record.flush.duration : batch insert 처리 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SessionRecordBuffer {
+    private final SessionRecordService sessionRecordService;
+    private final int batchSize;
+
+    private final BlockingQueue<CreateSessionRecordCommandDTO> buffer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+
+    public SessionRecordBuffer(
+            SessionRecordService sessionRecordService,
+            SessionProperties sessionProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.sessionRecordService = sessionRecordService;
+        this.batchSize = sessionProperties.getRecordBatchSize();
+        this.buffer = new ArrayBlockingQueue<>(sessionProperties.getRecordCapacity());
+
+        Gauge.builder("session.record.buffer.size", buffer, BlockingQueue::size)
+                .description("저장 대기 세션 레코드 수")
+                .register(meterRegistry);
+
+        this.flushTimer = Timer.builder("session.record.flush.duration")
+                .description("세션 레코드 batch insert 처리 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("session.record.flushed")
+                .description("DB에 저장한 세션 레코드 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("session.record.dropped")
+                .description("버퍼 초과로 버린 세션 레코드 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("session.record.rejected")
+                .description("데이터 오류로 저장하지 못한 세션 레코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 추가. 버퍼가 batchSize 이상이면 바로 저장 (다른 스레드가 저장 중이면 그쪽에서 처리)
+     */
+    public void add(CreateSessionRecordCommandDTO command) {
+        if (!buffer.offer(command)) {
+            droppedCounter.increment();
+            log.error("세션 레코드 버퍼 초과, 레코드 유실: sessionUuid={}", command.getSessionUuid());
+            return;
+        }
+
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼를 batchSize 단위로 저장. DB 장애 시 해당 batch를 버퍼에 되돌리고 중단
+     */
+    @Scheduled(fixedDelayString = "${session.record.flush-interval:1s}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            while (true) {
+                List<CreateSessionRecordCommandDTO> batch = new ArrayList<>(batchSize);
+
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    return;
+                }
+                if (!commit(batch)) {
+                    requeue(batch);
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 레코드 저장
+     */
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+
+        try {
+            List<CreateSessionRecordCommandDTO> remaining = new ArrayList<>(buffer.size());
+            buffer.drainTo(remaining);
+
+            for (int i = 0; i < remaining.size(); i += batchSize) {
+                List<CreateSessionRecordCommandDTO> batch = remaining.subList(i, Math.min(i + batchSize, remaining.size()));
+
+                if (!commit(batch)) {
+                    List<CreateSessionRecordCommandDTO> lost = remaining.subList(i, remaining.size());
+                    droppedCounter.increment(lost.size());
+                    log.error("종료 중 세션 레코드 저장 실패, 레코드 유실: sessionUuids={}",
+                            lost.stream().map(CreateSessionRecordCommandDTO::getSessionUuid).toList());
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int getBufferSize() {
+        return buffer.size();
+    }
+
+    private boolean commit(List<CreateSessionRecordCommandDTO> batch) {
+        long start = System.nanoTime();
+
+        try {
+            sessionRecordService.saveSessionRecords(batch);
+            flushedCounter.increment(batch.size());
+            return true;
+        } catch (TransientDataAccessException | RecoverableDataAccessException
+                 | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            log.warn("세션 레코드 batch 저장 실패, 다음 플러시에서 재시도: count={}", batch.size(), e);
+            return false;
+        } catch (RuntimeException e) {
+            // 데이터 오류 → 한 건씩 저장하여 저장할 수 없는 레코드만 버림
+            return commitEach(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean commitEach(List<CreateSessionRecordCommandDTO> batch) {
+        for (CreateSessionRecordCommandDTO command : batch) {
+            try {
+                sessionRecordService.saveSessionRecords(List.of(command));
+                flushedCounter.increment();
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                // 저장한 레코드도 함께 재시도하지만 저장이 멱등이므로 중복되지 않음
+                log.warn("세션 레코드 저장 실패, 다음 플러시에서 재시도: sessionUuid={}", command.getSessionUuid(), e);
+                return false;
+            } catch (RuntimeException e) {
+                rejectedCounter.increment();
+                log.error("세션 레코드 저장 불가 (데이터 오류), 레코드 버림: sessionUuid={}", command.getSessionUuid(), e);
+            }
+        }
+
+        return true;
+    }
+
+    private void requeue(List<CreateSessionRecordCommandDTO> batch) {
+        for (CreateSessionRecordCommandDTO command : batch) {
+            if (!buffer.offer(command)) {
+                droppedCounter.increment();
+                log.error("세션 레코드 버퍼 초과, 레코드 유실: sessionUuid={}", command.getSessionUuid());
+            }
+        }
+    }
+
+}
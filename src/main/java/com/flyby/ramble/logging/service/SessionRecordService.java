@@ -1,33 +1,49 @@
 package com.flyby.ramble.logging.service;
 
 import com.flyby.ramble.logging.dto.CreateSessionRecordCommandDTO;
-import com.flyby.ramble.logging.model.meta.SessionRecord;
-import com.flyby.ramble.logging.repository.meta.SessionRecordRepository;
+import com.flyby.ramble.logging.repository.meta.SessionRecordBatchRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SessionRecordService {
-    private final SessionRecordRepository sessionRecordRepository;
+    private final SessionRecordBatchRepository sessionRecordBatchRepository;
 
     /**
-     * 세션 레코드 생성
-     * @param commandDTO
+     * 세션 레코드 일괄 저장 (한 트랜잭션). 이미 저장된 세션 UUID는 건너뜀
+     * <p>
+     * 이벤트 경로에서는 {@link SessionRecordBuffer}를 통해 호출.
+     * {@link com.flyby.ramble.logging.model.meta.SessionRecord}와 같은 규칙으로 검증하여 잘못된 레코드는 제외.
+     * </p>
      */
     @Transactional
-    public void createSessionRecord(CreateSessionRecordCommandDTO commandDTO) {
-        if (sessionRecordRepository.existsByUuid(commandDTO.getSessionUuid())) {
-            throw new IllegalStateException("이미 존재하는 세션 UUID입니다: " + commandDTO.getSessionUuid());
+    public void saveSessionRecords(List<CreateSessionRecordCommandDTO> commands) {
+        if (commands == null || commands.isEmpty()) {
+            return;
         }
 
-        SessionRecord sessionRecord = SessionRecord.builder()
-                .uuid(commandDTO.getSessionUuid())
-                .startedAt(commandDTO.getStartedAt())
-                .endedAt(commandDTO.getEndedAt())
-                .build();
+        List<CreateSessionRecordCommandDTO> valid = commands.stream()
+                .filter(SessionRecordService::isValid)
+                .toList();
+
+        sessionRecordBatchRepository.insertIgnoreDuplicates(valid);
+    }
+
+    private static boolean isValid(CreateSessionRecordCommandDTO command) {
+        if (command.getSessionUuid() == null || command.getStartedAt() == null || command.getEndedAt() == null
+                || command.getEndedAt().isBefore(command.getStartedAt())) {
+            log.error("잘못된 세션 레코드, 저장 제외: sessionUuid={}, startedAt={}, endedAt={}",
+                    command.getSessionUuid(), command.getStartedAt(), command.getEndedAt());
+            return false;
+        }
 
-        sessionRecordRepository.save(sessionRecord);
+        return true;
     }
+
 }
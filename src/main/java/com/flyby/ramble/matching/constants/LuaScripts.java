@@ -0,0 +1,373 @@
+package com.flyby.ramble.matching.constants;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매칭 대기열 Lua 스크립트
+ * <p>
+ * 스크립트 내부에서 KEYS로 선언되지 않은 키(대기열, 프로필)에 접근하므로 단일 노드 Redis 전제.
+ * (Redisson useScriptCache 기본값에 의해 EVALSHA로 실행)
+ * </p>
+ * 대기열(ZSET)에 항목을 추가/제거하는 스크립트는 대기열 디렉터리(Hash: 대기열 키 → 인원)도 같은 스크립트에서 갱신.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LuaScripts {
+
+    /**
+     * 대기열 디렉터리 인원 증감. 0 이하가 되면 필드 삭제 (비어 있는 대기열은 디렉터리에 남기지 않음)
+     */
+    private static final String DIRECTORY_FUNCTIONS = """
+            local function adjust(directory, key, delta)
+                if delta ~= 0 and redis.call('HINCRBY', directory, key, delta) <= 0 then
+                    redis.call('HDEL', directory, key)
+                end
+            end
+            """;
+
+    /**
+     * 대기 시간 가중 deficit round robin poll + 프로필 조회를 한 번에 처리
+     * <p>
+     * 전체 인원이 최대 poll 인원 이하면 모두 poll. 초과하면 대기열마다 선두 대기 시간에 비례한 몫을 이전 tick의
+     * 잔여 몫(deficit)에 더해 정수 부분만큼 poll하고, 남은 자리는 선두 대기 시간이 긴 대기열부터 한 명씩 배정.
+     * 소수점 이하 잔여 몫은 다음 tick으로 이월되므로 작은 대기열도 선두 대기 시간이 길어지면 반드시 차례가 옴.
+     * </p>
+     * 만료 항목 제거는 {@link #SWEEP_EXPIRED}가 별도로 처리. 아직 제거되지 않은 만료 항목은 프로필 TTL이 같으므로
+     * 프로필 조회에서 제외됨.
+     * <pre>
+     * KEYS[1] : 대기열 디렉터리 (Hash: 대기열 키 → 인원)
+     * KEYS[2] : 대기열별 잔여 몫 (Hash: 대기열 키 → deficit)
+     * ARGV[1] : 최대 poll 인원
+     * ARGV[2] : 프로필 키 prefix ("match:profile:")
+     * ARGV[3] : 현재 시각 (ms)
+     * ARGV[4..] : 처리할 파티션 목록. 대기열 키(성별:언어:지역)의 언어 세그먼트가 일치하는 대기열만 poll
+     *             (언어 조건이 완화된 대기열은 "ANY" 파티션)
+     *
+     * return  : { {queueKey, userId, profile, userId, profile, ...}, ... }
+     *           프로필이 만료된 사용자는 poll 후 결과에서 제외
+     * </pre>
+     */
+    public static final String POLL_WITH_PROFILES = DIRECTORY_FUNCTIONS + """
+            local limit   = tonumber(ARGV[1])
+            local prefix  = ARGV[2]
+            local now     = tonumber(ARGV[3])
+
+            local partitions = {}
+            for i = 4, #ARGV do
+                partitions[ARGV[i]] = true
+            end
+
+            local keys, sizes, total = {}, {}, 0
+            local active = {}
+
+            -- 디렉터리 한 번으로 비어 있지 않은 대기열과 인원 조회
+            local directory = redis.call('HGETALL', KEYS[1])
+            for i = 1, #directory, 2 do
+                local key  = directory[i]
+                local size = tonumber(directory[i + 1])
+                active[key] = true
+
+                if size > 0 and partitions[string.match(key, ':([^:]+):[^:]+$')] then
+                    keys[#keys + 1]   = key
+                    sizes[#sizes + 1] = size
+                    total = total + size
+                end
+            end
+
+            local counts = {}
+
+            if total <= limit then
+                for i, key in ipairs(keys) do
+                    counts[i] = sizes[i]
+                    redis.call('HDEL', KEYS[2], key)
+                end
+            else
+                -- 선두 대기 시간 (가중치)
+                local waits, weightSum = {}, 0
+                for i, key in ipairs(keys) do
+                    local head = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    waits[i] = head[2] and math.max(now - tonumber(head[2]), 1) or 1
+                    weightSum = weightSum + waits[i]
+                end
+
+                local deficits = {}
+                local stored = redis.call('HGETALL', KEYS[2])
+                for i = 1, #stored, 2 do
+                    if active[stored[i]] then
+                        deficits[stored[i]] = tonumber(stored[i + 1])
+                    else
+                        redis.call('HDEL', KEYS[2], stored[i]) -- 비어서 디렉터리에서 빠진 대기열
+                    end
+                end
+
+                -- 선두 대기 시간이 긴 대기열부터 배분
+                local order = {}
+                for i = 1, #keys do
+                    order[i] = i
+                end
+                table.sort(order, function(a, b) return waits[a] > waits[b] end)
+
+                -- 이번 tick 몫 = 이월된 잔여 몫 + 대기 시간 비례 몫
+                -- 이월된 몫 합계로 limit을 넘지 않도록 남은 자리까지만 배분 (못 받은 몫은 다음 tick으로 이월)
+                local credits, used = {}, 0
+                for _, i in ipairs(order) do
+                    credits[i] = (deficits[keys[i]] or 0) + limit * waits[i] / weightSum
+                    counts[i]  = math.max(math.min(sizes[i], math.floor(credits[i]), limit - used), 0)
+                    used = used + counts[i]
+                end
+
+                -- 남은 자리는 선두 대기 시간이 긴 대기열부터 한 명씩 (초과분은 잔여 몫에서 차감)
+
+                local progress = true
+                while used < limit and progress do
+                    progress = false
+                    for _, i in ipairs(order) do
+                        if used >= limit then
+                            break
+                        end
+                        if counts[i] < sizes[i] then
+                            counts[i] = counts[i] + 1
+                            used = used + 1
+                            progress = true
+                        end
+                    end
+                end
+
+                -- 잔여 몫 이월 (대기열을 모두 비우면 초기화)
+                for i, key in ipairs(keys) do
+                    if counts[i] >= sizes[i] then
+                        redis.call('HDEL', KEYS[2], key)
+                    else
+                        redis.call('HSET', KEYS[2], key, credits[i] - counts[i])
+                    end
+                end
+            end
+
+            local result = {}
+
+            for i, key in ipairs(keys) do
+                if counts[i] > 0 then
+                    local popped = redis.call('ZPOPMIN', key, counts[i])
+                    local group  = { key }
+
+                    adjust(KEYS[1], key, -(#popped / 2))
+
+                    for j = 1, #popped, 2 do
+                        local profile = redis.call('GET', prefix .. popped[j])
+                        if profile then
+                            group[#group + 1] = popped[j]
+                            group[#group + 1] = profile
+                        end
+                    end
+
+                    if #group > 1 then
+                        result[#result + 1] = group
+                    end
+                end
+            end
+
+            return result
+            """;
+
+    /**
+     * 대기열 항목 교체 (기존 대기열/프로필 제거 + 신규 등록)를 원자적으로 처리
+     * <pre>
+     * KEYS[1] : 대기 정보 키 (Hash: queue = 대기열 키, entry = 등록 시각)
+     * KEYS[2] : 프로필 키
+     * KEYS[3] : 신규 대기열 키
+     * KEYS[4] : 대기열 디렉터리 (Hash: 대기열 키 → 인원)
+     * KEYS[5] : 참가자별 세션 정보 키
+     * KEYS[6] : 대기열별 가장 오래된 등록 시각 힌트 (Hash)
+     * KEYS[7] : (기존) 세션 매핑 키 (userId → sessionId)
+     * ARGV[1] : userId
+     * ARGV[2] : 등록 시각 (ms, 펜싱 토큰)
+     * ARGV[3] : 인코딩된 프로필
+     * ARGV[4] : 프로필 TTL (ms)
+     *
+     * return  : { 교체 여부(1: 교체, 0: 더 최신 요청이 이미 등록됨), 활성 세션 존재 여부(1/0) }
+     * </pre>
+     */
+    public static final String REPLACE_ENTRY = DIRECTORY_FUNCTIONS + """
+            local userId = ARGV[1]
+            local entry  = ARGV[2]
+            local inSession = math.min(redis.call('EXISTS', KEYS[5], KEYS[7]), 1)
+
+            local prevQueue = redis.call('HGET', KEYS[1], 'queue')
+            local prevEntry = redis.call('HGET', KEYS[1], 'entry')
+
+            -- 펜싱: 더 최신 등록이 이미 존재하면 무시
+            if prevEntry and tonumber(prevEntry) > tonumber(entry) then
+                return { 0, inSession }
+            end
+
+            if prevQueue then
+                adjust(KEYS[4], prevQueue, -redis.call('ZREM', prevQueue, userId))
+            end
+
+            redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+            redis.call('HSET', KEYS[1], 'queue', KEYS[3], 'entry', entry)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+
+            adjust(KEYS[4], KEYS[3], redis.call('ZADD', KEYS[3], entry, userId))
+            redis.call('HSETNX', KEYS[6], KEYS[3], entry)
+
+            return { 1, inSession }
+            """;
+
+    /**
+     * 대기열 재등록 (매칭 실패 인원). poll 이후 재요청/취소된 사용자는 건너뜀
+     * <p>
+     * 대기 시간에 따라 완화 대기열로 옮겨 등록할 수 있으므로 대기 정보의 queue도 함께 갱신.
+     * </p>
+     * <pre>
+     * KEYS[1] : 대기열 디렉터리 (Hash: 대기열 키 → 인원)
+     * KEYS[2] : 대기열별 가장 오래된 등록 시각 힌트 (Hash)
+     * ARGV[1] : 대기 정보 키 prefix ("match:member:")
+     * ARGV[2..] : { 대기열 키, userId, 등록 시각 } 반복
+     *
+     * return  : 재등록 인원 수
+     * </pre>
+     */
+    public static final String REQUEUE_ENTRIES = DIRECTORY_FUNCTIONS + """
+            local prefix = ARGV[1]
+            local requeued = 0
+
+            for i = 2, #ARGV, 3 do
+                local member = prefix .. ARGV[i + 1]
+
+                if redis.call('HGET', member, 'entry') == ARGV[i + 2] then
+                    redis.call('HSET', member, 'queue', ARGV[i])
+                    adjust(KEYS[1], ARGV[i], redis.call('ZADD', ARGV[i], ARGV[i + 2], ARGV[i + 1]))
+
+                    -- 재등록 항목은 기존 등록 시각을 유지하므로 힌트보다 오래될 수 있음
+                    local oldest = redis.call('HGET', KEYS[2], ARGV[i])
+                    if not oldest or tonumber(oldest) > tonumber(ARGV[i + 2]) then
+                        redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+                    end
+
+                    requeued = requeued + 1
+                end
+            end
+
+            return requeued
+            """;
+
+    /**
+     * 대기 취소 (대기열 항목 + 프로필 + 대기 정보 삭제)
+     * <pre>
+     * KEYS[1] : 대기열 디렉터리 (Hash: 대기열 키 → 인원)
+     * KEYS[2] : 프로필 키
+     * KEYS[3] : 대기 정보 키
+     * ARGV[1] : userId
+     * ARGV[2..] : 사용자가 있을 수 있는 대기열 키 목록 (완화 대기열 포함)
+     *
+     * return  : { 대기열 제거 여부(1/0), 프로필 제거 여부(1/0) }
+     * </pre>
+     */
+    public static final String DEQUEUE_ENTRY = DIRECTORY_FUNCTIONS + """
+            local removed = 0
+
+            for i = 2, #ARGV do
+                local count = redis.call('ZREM', ARGV[i], ARGV[1])
+                adjust(KEYS[1], ARGV[i], -count)
+                removed = removed + count
+            end
+
+            local deleted = redis.call('DEL', KEYS[2])
+            redis.call('DEL', KEYS[3])
+
+            return { math.min(removed, 1), deleted }
+            """;
+
+    /**
+     * 매칭 완료 인원의 프로필/대기 정보 삭제. poll 이후 재요청한 사용자의 신규 등록은 유지
+     * <pre>
+     * ARGV[1] : 프로필 키 prefix ("match:profile:")
+     * ARGV[2] : 대기 정보 키 prefix ("match:member:")
+     * ARGV[3..] : { userId, 등록 시각 } 반복
+     *
+     * return  : 삭제 인원 수
+     * </pre>
+     */
+    public static final String RELEASE_ENTRIES = """
+            local deleted = 0
+
+            for i = 3, #ARGV, 2 do
+                local member = ARGV[2] .. ARGV[i]
+                local entry  = redis.call('HGET', member, 'entry')
+
+                if not entry or entry == ARGV[i + 1] then
+                    redis.call('DEL', ARGV[1] .. ARGV[i], member)
+                    deleted = deleted + 1
+                end
+            end
+
+            return deleted
+            """;
+
+    /**
+     * 대기열 디렉터리 일부(slice)의 만료 항목 제거 + 디렉터리 인원 보정
+     * <p>
+     * 대기열별 가장 오래된 등록 시각 힌트가 만료 기준보다 최신이면 만료 확인을 건너뜀. 힌트는 실제 최소 score 이하로만 유지
+     * (poll/dequeue로 앞 항목이 빠지면 실제보다 오래된 값이 되어 다음 sweep에서 한 번 더 확인 후 갱신).
+     * 만료 항목의 프로필/대기 정보도 함께 삭제하되, 그 사이 재요청한 사용자의 신규 등록은 유지.
+     * slice의 모든 대기열은 ZCARD로 디렉터리 인원을 다시 맞춤.
+     * </p>
+     * <pre>
+     * KEYS[1] : 대기열 디렉터리 (Hash: 대기열 키 → 인원)
+     * KEYS[2] : 대기열별 가장 오래된 등록 시각 힌트 (Hash)
+     * ARGV[1] : 만료 기준 시각 (ms, 이 score 이하 항목 제거)
+     * ARGV[2] : 디렉터리 HSCAN 커서
+     * ARGV[3] : slice 크기 (HSCAN COUNT)
+     * ARGV[4] : 프로필 키 prefix ("match:profile:")
+     * ARGV[5] : 대기 정보 키 prefix ("match:member:")
+     *
+     * return  : { 다음 커서 (끝까지 돌았으면 "0"), 제거 인원 수 }
+     * </pre>
+     */
+    public static final String SWEEP_EXPIRED = """
+            local cutOff = tonumber(ARGV[1])
+
+            local scan = redis.call('HSCAN', KEYS[1], ARGV[2], 'COUNT', ARGV[3])
+            local fields = scan[2]
+            local expired = 0
+
+            for i = 1, #fields, 2 do
+                local key = fields[i]
+                local oldest = redis.call('HGET', KEYS[2], key)
+
+                if not oldest or tonumber(oldest) <= cutOff then
+                    local entries = redis.call('ZRANGEBYSCORE', key, 0, cutOff, 'WITHSCORES')
+
+                    for j = 1, #entries, 2 do
+                        local userId = entries[j]
+                        local member = ARGV[5] .. userId
+                        local entry  = redis.call('HGET', member, 'entry')
+
+                        redis.call('ZREM', key, userId)
+                        if not entry or tonumber(entry) == tonumber(entries[j + 1]) then
+                            redis.call('DEL', ARGV[4] .. userId, member)
+                        end
+                        expired = expired + 1
+                    end
+
+                    local head = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                    if #head > 0 then
+                        redis.call('HSET', KEYS[2], key, head[2])
+                    else
+                        redis.call('HDEL', KEYS[2], key)
+                    end
+                end
+
+                local size = redis.call('ZCARD', key)
+                if size > 0 then
+                    redis.call('HSET', KEYS[1], key, size)
+                else
+                    redis.call('HDEL', KEYS[1], key)
+                end
+            end
+
+            return { scan[1], expired }
+            """;
+
+}
@@ -11,22 +11,35 @@ public final class MatchingConstants {
     public static final String SUBSCRIPTION_MATCHING  = "/queue/match";
     public static final String SUBSCRIPTION_SIGNALING = "/queue/signal";
 
+    /*  Signaling */
+
+    public static final int SIGNAL_BATCH_VERSION = 1; // CANDIDATE_BATCH 프로토콜 버전
+
     /*  Redis */
 
     // 매칭 대기열
     public static final String QUEUE        = "match:queue";        // 매칭 대기열 키
-    public static final String QUEUE_ACTIVE = "match:queue:active"; // 활성 대기열 키 (매칭 대기열 키 목록 반환)
+    public static final String QUEUE_DIRECTORY = "match:queue:dir"; // 대기열 디렉터리 (Hash: 비어 있지 않은 대기열 키 → 인원)
+    public static final String QUEUE_DEFICIT = "match:queue:deficit"; // 대기열별 poll 잔여 몫 (Hash, deficit round robin)
+    public static final String QUEUE_OLDEST = "match:queue:oldest"; // 대기열별 가장 오래된 등록 시각 힌트 (Hash, 만료 sweep 대상 판별)
     // 매칭 프로필
     public static final String PROFILE      = "match:profile";      // 매칭 프로필 키
+    public static final String MEMBER       = "match:member";       // 대기 정보 키 (Hash: 대기열 키, 등록 시각)
     // 세션
-    public static final String SESSION      = "match:session";      // 매칭 세션 키
-    public static final String SESSION_USER = "match:session:user"; // userId → sessionId 매핑
+    public static final String SESSION_ROUTE = "match:route";       // 참가자별 세션 정보 (userId → SessionData, 상대방/세션 ID/시작 시각)
+    public static final String SESSION      = "match:session";      // (기존) 매칭 세션 키. 신규 기록 없음, SESSION_TTL 이후 제거
+    public static final String SESSION_USER = "match:session:user"; // (기존) userId → sessionId 매핑. 신규 기록 없음, SESSION_TTL 이후 제거
+    public static final String SESSION_CLOSED = "match:session:closed"; // 세션 종료 알림 채널 (노드별 상대방 캐시 무효화)
+    public static final String SESSION_OPENED = "match:session:opened"; // 매칭 확정 알림 채널 (발행 노드 ID, 참가자 ID. 다른 노드의 상대방 캐시 무효화)
 
-    // 분산 락
+    // 분산 락 (파티션(언어)별 락 prefix → match:lock:pipeline:{언어})
     public static final String MATCHING_LOCK = "match:lock:pipeline";
 
-    public static final int REDIS_BATCH_SIZE = 1000; // Redis 배치 처리 단위
-    public static final int QUEUE_TTL = 5;           // 대기열 TTL (분)
-    public static final int SESSION_TTL = 720;       // 세션 TTL (분, 12시간)
+    public static final int REDIS_BATCH_SIZE = 1000;     // Redis 배치 처리 단위
+    public static final int MATCHING_BATCH_SIZE = 20000; // 매칭 tick당 최대 poll 인원 (기본값, 워커는 tick 처리 시간에 따라 조정)
+    public static final int LOCK_LEASE_TIME  = 10;       // 매칭 워커 락 유지 시간 (초)
+    public static final int QUEUE_TTL = 5;               // 대기열 TTL (분)
+    public static final int SESSION_TTL = 720;           // 세션 TTL (분, 12시간)
+    public static final int PARTNER_CACHE_SIZE = 100000; // 노드별 상대방 캐시 최대 항목 수 (userId → partnerId)
 
 }
@@ -0,0 +1,13 @@
+package com.flyby.ramble.matching.dto;
+
+/**
+ * 대기열 등록 결과
+ * @param enqueued  등록 여부 (더 최신 요청이 이미 등록된 경우도 true)
+ * @param inSession 등록 시점에 활성 세션이 존재했는지 여부
+ */
+public record EnqueueResult(
+    boolean enqueued,
+    boolean inSession
+) {
+    public static final EnqueueResult FAILED = new EnqueueResult(false, false);
+}
@@ -0,0 +1,12 @@
+package com.flyby.ramble.matching.dto;
+
+/**
+ * 대기열 만료 sweep 결과
+ * @param nextCursor 다음 slice의 디렉터리 HSCAN 커서 (디렉터리를 끝까지 돌았으면 "0")
+ * @param expired    제거된 만료 항목 수
+ */
+public record ExpirySweepResult(
+    String nextCursor,
+    int expired
+) {
+}
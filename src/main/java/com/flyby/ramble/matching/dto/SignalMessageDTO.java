@@ -1,5 +1,7 @@
 package com.flyby.ramble.matching.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.flyby.ramble.common.dto.RawJson;
 import com.flyby.ramble.matching.model.SignalType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -12,13 +14,20 @@ public class SignalMessageDTO {
     private String senderId;
     private String receiverId;
     private SignalType type;
-    private Object data;
+
+    @Schema(description = "묶음 메시지(CANDIDATE_BATCH) 프로토콜 버전", example = "1")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer version;
+
+    @Schema(type = "object", description = "SDP/ICE 페이로드. 서버는 해석하지 않고 그대로 전달")
+    private RawJson data;
 
     @Builder
-    public SignalMessageDTO(String senderId, String receiverId, SignalType type, Object data) {
+    public SignalMessageDTO(String senderId, String receiverId, SignalType type, Integer version, RawJson data) {
         this.senderId = senderId;
         this.receiverId = receiverId;
         this.type = type;
+        this.version = version;
         this.data = data;
     }
 }
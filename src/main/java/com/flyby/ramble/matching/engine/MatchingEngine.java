@@ -0,0 +1,110 @@
+package com.flyby.ramble.matching.engine;
+
+import com.flyby.ramble.matching.model.QueueTier;
+import com.flyby.ramble.matching.util.QueueCode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 배열 기반 매칭 엔진
+ * <p>
+ * 후보를 인덱스(0..n-1)와 {@link QueueCode}로만 다루고, 3단계 조건 완화를 한 번의 호출에서 처리.
+ * 각 단계는 (code, index)를 long 하나로 묶어 정렬한 뒤 같은 코드 구간을 순서대로 짝지음.
+ * 객체 할당은 단계별 primitive 배열뿐이며, 결과도 인덱스 배열로 반환.
+ * </p>
+ * <pre>
+ * 1단계: 성별:언어:지역 일치
+ * 2단계: 성별:언어 (남은 인원이 MERGE_THRESHOLD 이하면 전체 병합)
+ * 3단계: 성별     (남은 인원이 MERGE_THRESHOLD 이하면 전체 병합)
+ * </pre>
+ * 단계별 완화는 {@link QueueTier}를 원래 코드에 적용하므로, 완화 대기열에서 poll된 후보(이미 ANY 필드 보유)도
+ * 같은 단계에서 일반 후보와 같은 코드가 됨.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MatchingEngine {
+
+    private static final QueueTier[] TIERS = QueueTier.values();
+    private static final int MERGE_THRESHOLD = 6; // 임시값. 현재는 유지
+
+    /**
+     * @param codes 후보별 대기열 코드 (poll 순서, 같은 코드 내에서는 대기 시간 순)
+     * @return 매칭 결과 (후보 인덱스)
+     */
+    public static Result match(int[] codes) {
+        int n = codes.length;
+
+        int[] pairs = new int[n - (n & 1)];
+        int pairCount = 0;
+
+        int[] pending = new int[n];
+        for (int i = 0; i < n; i++) {
+            pending[i] = i;
+        }
+        int pendingCount = n;
+
+        int[] roundCodes = Arrays.copyOf(codes, n);
+        long[] keys = new long[n];
+
+        for (int round = 0; round < TIERS.length && pendingCount > 1; round++) {
+            boolean mergeMode = round > 0 && pendingCount <= MERGE_THRESHOLD;
+
+            // 조건 완화 + (code, index) 정렬 키 생성
+            for (int i = 0; i < pendingCount; i++) {
+                int idx = pending[i];
+
+                if (round > 0) {
+                    roundCodes[idx] = mergeMode ? QueueCode.MERGED : TIERS[round].apply(codes[idx]);
+                }
+
+                keys[i] = ((long) roundCodes[idx] << 32) | idx;
+            }
+
+            Arrays.sort(keys, 0, pendingCount);
+
+            // 같은 코드 구간에서 순서대로 짝짓기, 홀수로 남은 1명은 다음 단계로
+            int leftover = 0;
+            int i = 0;
+
+            while (i < pendingCount) {
+                int code = (int) (keys[i] >>> 32);
+                int end = i;
+                while (end < pendingCount && (int) (keys[end] >>> 32) == code) {
+                    end++;
+                }
+
+                for (; i + 1 < end; i += 2) {
+                    pairs[pairCount++] = (int) keys[i];
+                    pairs[pairCount++] = (int) keys[i + 1];
+                }
+
+                if (i < end) {
+                    pending[leftover++] = (int) keys[i++];
+                }
+            }
+
+            pendingCount = leftover;
+        }
+
+        return new Result(pairs, pairCount / 2, Arrays.copyOf(pending, pendingCount));
+    }
+
+    /**
+     * @param pairs     매칭된 후보 인덱스 (2개씩 한 쌍: [a0, b0, a1, b1, ...])
+     * @param pairCount 매칭 쌍 수
+     * @param unmatched 모든 단계 이후 남은 후보 인덱스
+     */
+    public record Result(int[] pairs, int pairCount, int[] unmatched) {
+
+        public int first(int pair) {
+            return pairs[pair * 2];
+        }
+
+        public int second(int pair) {
+            return pairs[pair * 2 + 1];
+        }
+
+    }
+
+}
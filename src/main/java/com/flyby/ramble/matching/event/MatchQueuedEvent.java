@@ -0,0 +1,24 @@
+package com.flyby.ramble.matching.event;
+
+import com.flyby.ramble.matching.model.Language;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 매칭 대기열 등록 이벤트
+ */
+@Getter
+@ToString
+public class MatchQueuedEvent {
+    private final String userId;
+    private final Language language;
+
+    public MatchQueuedEvent(String userId, Language language) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("userId must not be blank");
+        }
+
+        this.userId = userId;
+        this.language = language;
+    }
+}
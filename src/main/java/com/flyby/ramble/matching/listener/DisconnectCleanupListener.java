@@ -0,0 +1,145 @@
+package com.flyby.ramble.matching.listener;
+
+import com.flyby.ramble.common.broker.UserLocationRegistry;
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.service.MatchingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 연결 종료 시 대기열/세션 정리
+ * <p>
+ * 연결이 끊긴 사용자가 대기열 TTL까지 남아 매칭되는 것(유령 매칭)과 세션 키가 SESSION_TTL까지 남는 것을 방지.
+ * 연결 종료 후 grace 동안 기다렸다가 {@link MatchingService#disconnectUser(String, long)} 호출.
+ * 사용자별 마지막 연결 종료만 처리하고 (재연결 폭주 debounce), 그 사이 이 노드나 다른 노드(redis 브로커 모드)에
+ * 다시 연결했으면 정리하지 않음. 재연결 후 다시 등록한 대기열은 disconnectUser의 시각 비교로 보호됨.
+ * </p>
+ * <ul>
+ *     <li>matching.ghost.avoided          : 연결 종료로 대기열에서 제거한 인원 (유령 매칭 방지)</li>
+ *     <li>matching.disconnect.reconnected : grace 안에 재연결했거나 다른 연결이 남아 있어 정리하지 않은 연결 종료 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DisconnectCleanupListener {
+    private final MatchingService matchingService;
+    private final MatchingProperties matchingProperties;
+    private final SimpUserRegistry userRegistry;
+    private final ObjectProvider<UserLocationRegistry> userLocationRegistry;
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor taskExecutor;
+
+    // 정리 대기 중인 사용자 → 마지막 연결 종료 시각
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter ghostAvoidedCounter;
+    private final Counter reconnectedCounter;
+
+    public DisconnectCleanupListener(
+            MatchingService matchingService,
+            MatchingProperties matchingProperties,
+            SimpUserRegistry userRegistry,
+            ObjectProvider<UserLocationRegistry> userLocationRegistry,
+            @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+            @Qualifier("taskExecutor") TaskExecutor taskExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.matchingService = matchingService;
+        this.matchingProperties = matchingProperties;
+        this.userRegistry = userRegistry;
+        this.userLocationRegistry = userLocationRegistry;
+        this.taskScheduler = taskScheduler;
+        this.taskExecutor = taskExecutor;
+
+        this.ghostAvoidedCounter = Counter.builder("matching.ghost.avoided")
+                .description("연결 종료로 대기열에서 제거한 인원")
+                .register(meterRegistry);
+        this.reconnectedCounter = Counter.builder("matching.disconnect.reconnected")
+                .description("재연결 등으로 정리하지 않은 연결 종료 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+
+        if (!matchingProperties.isDisconnectCleanupEnabled() || user == null) {
+            return;
+        }
+
+        String userId = user.getName();
+        long disconnectedAt = event.getTimestamp();
+
+        pending.put(userId, disconnectedAt);
+        // 정리는 락 대기가 있을 수 있으므로 스케줄러가 아닌 executor에서 실행
+        taskScheduler.schedule(
+                () -> taskExecutor.execute(() -> cleanup(userId, disconnectedAt)),
+                Instant.ofEpochMilli(disconnectedAt).plus(matchingProperties.getDisconnectGrace())
+        );
+    }
+
+    /**
+     * STOMP 인증(CONNECT) 후 사용자가 지정된 CONNECTED 시점에 재연결로 판단
+     */
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+
+        if (user != null && pending.remove(user.getName()) != null) {
+            reconnectedCounter.increment();
+        }
+    }
+
+    void cleanup(String userId, long disconnectedAt) {
+        // 이후 다시 끊긴 경우 마지막 연결 종료의 예약에서 처리, 재연결했으면 이미 제거됨
+        if (!pending.remove(userId, disconnectedAt)) {
+            return;
+        }
+
+        if (isConnected(userId)) {
+            reconnectedCounter.increment();
+            return;
+        }
+
+        try {
+            if (matchingService.disconnectUser(userId, disconnectedAt)) {
+                ghostAvoidedCounter.increment();
+                log.info("연결 종료 사용자 대기열 제거: userId={}", userId);
+            }
+        } catch (Exception e) {
+            log.error("연결 종료 정리 실패 (대기열/세션 TTL 후 만료): userId={}", userId, e);
+        }
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 이 노드 또는 다른 노드에 다시 연결되어 있는지
+     */
+    private boolean isConnected(String userId) {
+        if (userRegistry.getUser(userId) != null) {
+            return true;
+        }
+
+        UserLocationRegistry registry = userLocationRegistry.getIfAvailable();
+        return registry != null && registry.locate(userId) != null;
+    }
+
+}
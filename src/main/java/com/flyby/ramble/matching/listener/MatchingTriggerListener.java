@@ -0,0 +1,70 @@
+package com.flyby.ramble.matching.listener;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.event.MatchQueuedEvent;
+import com.flyby.ramble.matching.worker.MatchingWorker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대기열 등록 이벤트 기반 매칭 트리거
+ * <p>
+ * 첫 등록 이후 window 동안 등록을 모아 한 번에 매칭하고, window 이전이라도 batchThreshold에 도달하면 즉시 매칭.
+ * {@link MatchingWorker#scheduledTick()}의 고정 주기 실행은 fallback으로 유지.
+ * </p>
+ */
+@Component
+public class MatchingTriggerListener {
+    private final MatchingWorker matchingWorker;
+    private final MatchingProperties matchingProperties;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public MatchingTriggerListener(
+            MatchingWorker matchingWorker,
+            MatchingProperties matchingProperties,
+            @Qualifier("matchingTaskScheduler") TaskScheduler taskScheduler
+    ) {
+        this.matchingWorker = matchingWorker;
+        this.matchingProperties = matchingProperties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener
+    public void handle(MatchQueuedEvent event) {
+        if (!matchingProperties.isTriggerEnabled()) {
+            return;
+        }
+
+        int count = pending.incrementAndGet();
+
+        if (count == matchingProperties.getTriggerBatchThreshold()) {
+            // 임계치 도달: window를 기다리지 않고 즉시 실행
+            scheduled.set(true);
+            taskScheduler.schedule(this::trigger, Instant.now());
+        } else if (scheduled.compareAndSet(false, true)) {
+            // 첫 등록: window 이후 실행 예약
+            taskScheduler.schedule(this::trigger, Instant.now().plus(matchingProperties.getTriggerWindow()));
+        }
+    }
+
+    private void trigger() {
+        scheduled.set(false);
+
+        // 이전 실행에서 이미 처리된 경우
+        if (pending.getAndSet(0) == 0) {
+            return;
+        }
+
+        matchingWorker.tick();
+    }
+
+}
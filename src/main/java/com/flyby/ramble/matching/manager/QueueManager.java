@@ -1,19 +1,30 @@
 package com.flyby.ramble.matching.manager;
 
+import com.flyby.ramble.matching.constants.LuaScripts;
 import com.flyby.ramble.matching.constants.MatchingConstants;
+import com.flyby.ramble.matching.dto.EnqueueResult;
+import com.flyby.ramble.matching.dto.ExpirySweepResult;
 import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.model.QueueTier;
+import com.flyby.ramble.matching.util.QueueCode;
 import com.flyby.ramble.matching.util.RedisKeyBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
 import org.redisson.client.RedisException;
+import org.redisson.client.codec.ByteArrayCodec;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.client.handler.State;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,62 +36,93 @@ public class QueueManager {
     private static final double CUT_OFF_TIME_MS = MatchingConstants.QUEUE_TTL * 60d * 1000;
 
     public boolean enqueue(MatchingProfile profile) {
+        return replace(profile).enqueued();
+    }
+
+    /**
+     * 기존 대기 항목(대기열, 프로필)을 제거하고 신규 항목을 등록. {@link LuaScripts#REPLACE_ENTRY} 한 번으로 원자적으로 처리
+     * <p>
+     * 등록 시각(queueEntryTime)을 펜싱 토큰으로 사용하여, 더 최신 등록이 이미 있으면 기존 항목을 유지.
+     * </p>
+     */
+    public EnqueueResult replace(MatchingProfile profile) {
         if (profile == null) {
-            return false;
+            return EnqueueResult.FAILED;
         }
 
-        String queueKey   = RedisKeyBuilder.buildQueueKey(profile);
-        String profileKey = RedisKeyBuilder.buildProfileKey(profile);
+        String queueKey = RedisKeyBuilder.buildQueueKey(profile);
         String userId = profile.getUserExternalId();
 
         long now = System.currentTimeMillis();
         profile.setQueueEntryTime(now);
 
-        // RBatch를 사용하여 SortedSet(대기열), Bucket(매칭 상세정보), SetCache(활성 대기열 키) 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
-
-        // 대기열에 사용자 추가
-        batch.getScoredSortedSet(queueKey, StringCodec.INSTANCE).addAsync(now, userId);
-        batch.getBucket(profileKey)
-                .setAsync(profile, Duration.ofMinutes(MatchingConstants.QUEUE_TTL));
-
-        // 활성 대기열 키 추가
-        batch.getSetCache(MatchingConstants.QUEUE_ACTIVE)
-                .addAsync(queueKey, MatchingConstants.QUEUE_TTL, TimeUnit.MINUTES);
+        long ttl = TimeUnit.MINUTES.toMillis(MatchingConstants.QUEUE_TTL);
 
         try {
-            batch.execute();
-            return true;
+            List<Long> result = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.REPLACE_ENTRY,
+                    RScript.ReturnType.MULTI,
+                    List.of(
+                            RedisKeyBuilder.buildMemberKey(userId),
+                            RedisKeyBuilder.buildProfileKey(profile),
+                            queueKey,
+                            MatchingConstants.QUEUE_DIRECTORY,
+                            RedisKeyBuilder.buildSessionRouteKey(userId),
+                            MatchingConstants.QUEUE_OLDEST,
+                            RedisKeyBuilder.buildSessionUserKey(userId)
+                    ),
+                    encodeArgs(userId, now, encodeValue(profile), ttl)
+            );
+
+            if (result.get(0) == 0L) {
+                log.info("Stale enqueue 무시: userId={}, entry={}ms", userId, now);
+            }
+
+            return new EnqueueResult(true, result.get(1) == 1L);
         } catch (RedisException e) {
             log.error("Failed to enqueue user: userId={}, queueKey={}", userId, queueKey, e);
-            return false;
+            return EnqueueResult.FAILED;
         }
     }
 
     /**
      * 재등록시 사용. Bucket 제외 큐에만 삽입 (TTL 유지)
+     * <p>
+     * poll 이후 재요청/취소되어 등록 시각이 달라진 사용자는 재등록하지 않음.
+     * </p>
      */
     public void requeueAll(Collection<MatchingProfile> profiles) {
+        requeueAll(profiles, QueueCode::of);
+    }
+
+    /**
+     * 재등록시 사용. 사용자별로 지정한 대기열(완화 대기열 포함)에 삽입
+     * @param queueCode 사용자별 재등록 대기열 코드 ({@link QueueCode})
+     */
+    public void requeueAll(Collection<MatchingProfile> profiles, ToIntFunction<MatchingProfile> queueCode) {
         if (profiles == null || profiles.isEmpty()) {
             return;
         }
 
-        // RBatch를 사용하여 SortedSet(대기열) 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
+        List<Object> args = new ArrayList<>(List.of(MatchingConstants.MEMBER + ":"));
 
         for (MatchingProfile profile : profiles) {
-            String queueKey = RedisKeyBuilder.buildQueueKey(profile);
-
-            long score = profile.getQueueEntryTime();
-            // 대기열에 사용자 추가
-            batch.getScoredSortedSet(queueKey, StringCodec.INSTANCE).addAsync(score, profile.getUserExternalId());
-            // 활성 대기열 키 추가 (TTL에 의해 제거되었을 수 있어 재삽입)
-            batch.getSetCache(MatchingConstants.QUEUE_ACTIVE)
-                    .addAsync(queueKey, MatchingConstants.QUEUE_TTL, TimeUnit.MINUTES);
+            String queueKey = QueueCode.toKey(queueCode.applyAsInt(profile));
+
+            args.add(queueKey);
+            args.add(profile.getUserExternalId());
+            args.add(profile.getQueueEntryTime());
         }
 
         try {
-            batch.execute();
+            redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.REQUEUE_ENTRIES,
+                    RScript.ReturnType.INTEGER,
+                    List.of(MatchingConstants.QUEUE_DIRECTORY, MatchingConstants.QUEUE_OLDEST),
+                    encodeArgs(args.toArray())
+            );
         } catch (RedisException e) {
             log.error(e.getMessage(), e);
         }
@@ -97,43 +139,76 @@ public class QueueManager {
             return false;
         }
 
-        String queueKey   = RedisKeyBuilder.buildQueueKey(profile);
-        String profileKey = RedisKeyBuilder.buildProfileKey(profile);
         String userId = profile.getUserExternalId();
 
-        // RBatch를 사용하여 SortedSet(대기열), Bucket(매칭 상세정보) 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
+        // 대기열(재등록 시 옮겨졌을 수 있는 완화 대기열 포함), Bucket(매칭 상세정보), Hash(대기 정보), 디렉터리 인원을 한 번에 처리
+        List<Object> args = new ArrayList<>(List.of(userId));
+        for (QueueTier tier : QueueTier.values()) {
+            args.add(RedisKeyBuilder.buildQueueKey(profile, tier));
+        }
 
-        // 대기열에서 사용자 제거
-        RFuture<Boolean> removeQueue = batch.getScoredSortedSet(queueKey, StringCodec.INSTANCE).removeAsync(userId);
-        RFuture<Boolean> removeProfile = batch.getBucket(profileKey).deleteAsync();
+        try {
+            List<Long> result = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.DEQUEUE_ENTRY,
+                    RScript.ReturnType.MULTI,
+                    List.of(
+                            MatchingConstants.QUEUE_DIRECTORY,
+                            RedisKeyBuilder.buildProfileKey(profile),
+                            RedisKeyBuilder.buildMemberKey(userId)
+                    ),
+                    encodeArgs(args.toArray())
+            );
+
+            return result.get(0) == 1L && result.get(1) == 1L;
+        } catch (RedisException e) {
+            log.error("Failed to remove user from queue: userId={}", userId, e);
+            return false;
+        }
+    }
 
-        // SetCache 비활성화는 TTL에 의해 처리 (대기열에 새로운 사용자가 없을시 TTL이 갱신되지 않아 자연스럽게 소멸)
-        // SetCache는 있고 실제 대기열에 데이터가 없어도 문제 없음
+    /**
+     * 매칭 완료된 유저 정보 삭제 (등록 시각 펜싱)
+     * <p>
+     * poll 이후 재요청한 사용자는 등록 시각이 달라지므로 신규 등록 정보를 유지.
+     * </p>
+     */
+    public void releaseProfiles(Collection<MatchingProfile> profiles) {
+        if (profiles == null || profiles.isEmpty()) {
+            return;
+        }
 
-        try {
-            batch.execute();
+        List<Object> args = new ArrayList<>(List.of(MatchingConstants.PROFILE + ":", MatchingConstants.MEMBER + ":"));
 
-            // 결과 조회
-            boolean r1 = removeQueue.toCompletableFuture().join();
-            boolean r2 = removeProfile.toCompletableFuture().join();
+        for (MatchingProfile profile : profiles) {
+            args.add(profile.getUserExternalId());
+            args.add(profile.getQueueEntryTime());
+        }
 
-            return r1 && r2;
-        } catch (Exception e) {
-            log.error("Failed to remove user from queue: userId={}", userId, e);
-            return false;
+        try {
+            redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.RELEASE_ENTRIES,
+                    RScript.ReturnType.INTEGER,
+                    Collections.emptyList(),
+                    encodeArgs(args.toArray())
+            );
+        } catch (RedisException e) {
+            log.error(e.getMessage(), e);
         }
     }
 
     /**
-     * 매칭 완료된 유저 정보 삭제
+     * 사용자가 현재 대기 중인 대기열 키 (재등록으로 완화 대기열에 있을 수 있음)
+     * @return 대기 중이 아니면 null
      */
-    public void deleteProfiles(Set<String> userIds) {
-        Set<String> profileKeys = userIds.stream()
-                .map(RedisKeyBuilder::buildProfileKey)
-                .collect(Collectors.toSet());
+    public String getQueueKey(String userId) {
+        if (userId == null || userId.isBlank()) {
+            return null;
+        }
 
-        executeDeleteBuckets(profileKeys); // 대기열 조회 시 poll 방식이라 Bucket만 삭제
+        RMap<String, String> member = redissonClient.getMap(RedisKeyBuilder.buildMemberKey(userId), StringCodec.INSTANCE);
+        return member.get("queue");
     }
 
     public MatchingProfile getProfile(String userId) {
@@ -147,249 +222,179 @@ public class QueueManager {
         return bucket.get();
     }
 
-    public Map<String, MatchingProfile> getProfiles(Set<String> userIds) {
-        if (userIds == null || userIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        Set<String> profileKeys = userIds.stream()
-                .map(RedisKeyBuilder::buildProfileKey)
-                .collect(Collectors.toSet());
-
-        Map<String, MatchingProfile> raw = executeFetchBuckets(profileKeys);
-        String prefix = MatchingConstants.PROFILE + ":";
-
-        return raw.entrySet().stream()
-                .collect(Collectors.toMap(
-                        e -> e.getKey().substring(prefix.length()),
-                        Map.Entry::getValue
-                ));
-    }
-
     /**
-     * 모든 활성 대기열의 상태 조회
+     * 모든 활성 대기열의 상태 조회 (대기열 디렉터리 한 번 조회)
      */
     public Map<String, Integer> getActiveQueueSizes() {
-        // 활성 대기열 조회
-        RSet<String> activeQueues = redissonClient.getSetCache(MatchingConstants.QUEUE_ACTIVE);
-        Set<String> keys = activeQueues.readAll();
-
-        if (keys.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        // RBatch를 사용하여 SortedSet(대기열) 여러 개를 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
-        Map<String, RFuture<Integer>> futures = new LinkedHashMap<>();
-
-        // 각 대기열의 크기 조회
-        for (String queueKey : keys) {
-            RScoredSortedSetAsync<String> queue = batch.getScoredSortedSet(queueKey);
-            futures.put(queueKey, queue.sizeAsync());
-        }
+        RMap<String, String> directory = redissonClient.getMap(MatchingConstants.QUEUE_DIRECTORY, StringCodec.INSTANCE);
 
         try {
-            batch.execute();
+            return directory.readAllMap().entrySet().stream()
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            entry -> Integer.parseInt(entry.getValue()),
+                            (a, b) -> a,
+                            LinkedHashMap::new
+                    ));
         } catch (RedisException e) {
             log.error(e.getMessage(), e);
             return Collections.emptyMap();
         }
-
-        // 결과 매핑 및 반환
-        return futures.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().toCompletableFuture().join(),
-                        (a, b) -> a,
-                        LinkedHashMap::new
-                ));
     }
 
     /**
-     * 대기열 조회 (모든 조건 일치: 성별, 언어, 지역)
+     * 모든 활성 대기열에서 대기열 키별 {@link MatchingProfile} 목록을 poll
+     * <p>
+     *     {@link LuaScripts#POLL_WITH_PROFILES} 스크립트 한 번으로
+     *     대기열별 인원 배분, poll, 프로필 조회를 처리하고
+     *     {@link MatchingProfile}로 매핑.
+     * </p>
+     * <b>NOTE:</b> 프로필이 만료되어 조회되지 않는 사용자는 결과에서 제외
      */
-    public Map<String, List<String>> poll() {
-        Map<String, Integer> activeKey = getActiveQueueSizes();
-
-        return poll(activeKey);
+    public Map<String, List<MatchingProfile>> pollWithProfiles() {
+        return pollWithProfiles(QueueCode.PARTITIONS);
     }
 
     /**
-     * 대기열 조회 (queueKeys에 해당하는 대기열)
-     * @param queueKeys map의 key(queueKey), value(size)
+     * 지정한 파티션의 활성 대기열에서 대기열 키별 {@link MatchingProfile} 목록을 poll
+     * @param partitions 처리할 파티션({@link QueueCode#PARTITIONS}) 목록. 호출자가 해당 파티션 락을 보유해야 함
      */
-    public Map<String, List<String>> poll(Map<String, Integer> queueKeys) {
-        if (queueKeys == null || queueKeys.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        // 각 대기열에서 조회한 결과를 반환
-        return executePoll(
-                queueKeys,
-                Function.identity()
-        );
+    public Map<String, List<MatchingProfile>> pollWithProfiles(Collection<String> partitions) {
+        return pollWithProfiles(partitions, MatchingConstants.MATCHING_BATCH_SIZE);
     }
 
     /**
-     * 모든 활성 대기열에서 대기열 키별 {@link MatchingProfile} 목록을 poll
+     * 지정한 파티션의 활성 대기열에서 최대 limit명을 poll
      * <p>
-     *     {@link #poll()}로 조회한 대기열을 기반으로
-     *     {@link #getProfiles(Set)}로 프로필 정보를 조회하고,
-     *     {@link MatchingProfile}로 매핑.
+     * 전체 인원이 limit을 넘으면 선두 대기 시간 가중 deficit round robin으로 대기열별 인원을 배분
+     * ({@link LuaScripts#POLL_WITH_PROFILES}).
      * </p>
-     * <b>NOTE:</b> 프로필이 만료되어 조회되지 않는 사용자는 결과에서 제외
+     * @param limit 최대 poll 인원
      */
-    public Map<String, List<MatchingProfile>> pollWithProfiles() {
-        Map<String, List<String>> groups = poll(); // 대기열 조회
-        Map<String, MatchingProfile> profiles = getProfiles(buildUserIds(groups)); // 프로필 조회
+    public Map<String, List<MatchingProfile>> pollWithProfiles(Collection<String> partitions, int limit) {
+        if (partitions == null || partitions.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> args = new ArrayList<>(List.of(
+                limit, MatchingConstants.PROFILE + ":", System.currentTimeMillis()
+        ));
+        args.addAll(partitions);
+
+        List<Object> groups;
+
+        try {
+            groups = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.POLL_WITH_PROFILES,
+                    RScript.ReturnType.MULTI,
+                    List.of(MatchingConstants.QUEUE_DIRECTORY, MatchingConstants.QUEUE_DEFICIT),
+                    encodeArgs(args.toArray())
+            );
+        } catch (RedisException e) {
+            log.error(e.getMessage(), e);
+            return Collections.emptyMap();
+        }
 
-        if (groups.isEmpty() || profiles.isEmpty()) {
+        if (groups == null || groups.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        // userId → MatchingProfile 변환, null 프로필 필터링
+        // {queueKey, userId, profile, ...} → queueKey → MatchingProfile 목록 변환, 디코딩 실패 프로필 필터링
         Map<String, List<MatchingProfile>> result = new LinkedHashMap<>();
 
-        groups.forEach((key, userIds) -> {
-            List<MatchingProfile> profileList = userIds.stream()
-                    .map(profiles::get)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toCollection(LinkedList::new));
+        for (Object group : groups) {
+            List<?> values = (List<?>) group;
+            List<MatchingProfile> profileList = new LinkedList<>();
+
+            for (int i = 2; i < values.size(); i += 2) {
+                MatchingProfile profile = decodeProfile((byte[]) values.get(i));
+
+                if (profile != null) {
+                    profileList.add(profile);
+                }
+            }
 
             if (!profileList.isEmpty()) {
-                result.put(key, profileList);
+                result.put(new String((byte[]) values.get(0), StandardCharsets.UTF_8), profileList);
             }
-        });
+        }
 
         return result;
     }
 
-    /* --- 내부 메서드 --- */
-
     /**
-     * Bucket 일괄 삭제
-     * @param keys 삭제할 bucket key Set
+     * 대기열 디렉터리 중 한 slice의 만료 항목 제거 + 디렉터리 인원 보정 (RScoredSortedSet은 개별 TTL 지원이 없음)
+     * <p>
+     * {@link LuaScripts#SWEEP_EXPIRED} 참고. 대기열별 가장 오래된 등록 시각 힌트로 만료 항목이 없는 대기열은 건너뜀.
+     * </p>
+     * @param cursor 디렉터리 HSCAN 커서 (처음은 "0", 이후 이전 호출의 {@link ExpirySweepResult#nextCursor()})
+     * @param count  slice 크기 (대기열 수)
      */
-    private void executeDeleteBuckets(Set<String> keys) {
-        if (keys == null || keys.isEmpty()) {
-            return;
-        }
-
-        // RBatch를 사용하여 Bucket 여러 개를 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
-
-        // 각 Bucket을 제거
-        for (String key : keys) {
-            batch.getBucket(key).deleteAsync();
-        }
+    public ExpirySweepResult sweepExpired(String cursor, int count) {
+        long cutOff = (long) (System.currentTimeMillis() - CUT_OFF_TIME_MS);
 
         try {
-            batch.execute();
+            List<Object> result = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE,
+                    LuaScripts.SWEEP_EXPIRED,
+                    RScript.ReturnType.MULTI,
+                    List.of(MatchingConstants.QUEUE_DIRECTORY, MatchingConstants.QUEUE_OLDEST),
+                    encodeArgs(cutOff, cursor, count, MatchingConstants.PROFILE + ":", MatchingConstants.MEMBER + ":")
+            );
+
+            String nextCursor = new String((byte[]) result.get(0), StandardCharsets.UTF_8);
+            return new ExpirySweepResult(nextCursor, ((Long) result.get(1)).intValue());
         } catch (RedisException e) {
             log.error(e.getMessage(), e);
+            return new ExpirySweepResult(cursor, 0);
         }
     }
 
-    /**
-     * Bucket 일괄 조회
-     * @param keys 조회할 bucket key Set
-     */
-    private <V> Map<String, V> executeFetchBuckets(Set<String> keys) {
-        if (keys == null || keys.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        RBuckets buckets = redissonClient.getBuckets();
-        Map<String, V> result = buckets.get(keys.toArray(new String[0]));
-
-        return result != null ? result : Collections.emptyMap();
-    }
+    /* --- 내부 메서드 --- */
 
     /**
-     * RScoredSortedSet 일괄 조회 + 만료된 항목 제거 (RScoredSortedSet은 개별 TTL 지원이 없음)
-     * @param keys 조회할 key Map(key, size)
+     * 스크립트 반환값(프로필 원본 바이트)을 RedissonClient Codec으로 디코딩
      */
-    private <T, D> Map<String, List<D>> executePoll(
-            Map<String, Integer> keys,
-            Function<T, D> mapper) {
-        // queueKeys 검증 및 전체 대기열(Backlog) 총합 계산
-        long totalBacklog = calculateTotalSizes(keys);
-
-        if (totalBacklog <= 0) {
-            return Collections.emptyMap();
-        }
-
-        // RBatch를 사용하여 SortedSet(대기열) 여러 개를 한 번에 처리
-        RBatch batch = redissonClient.createBatch();
-        Map<String, RFuture<Collection<T>>> futures = new LinkedHashMap<>();
-        double cutOffTime = System.currentTimeMillis() - CUT_OFF_TIME_MS; // 현재 시간 - 5분
-
-        // 만료된 항목 제거
-        for (String key : keys.keySet()) {
-            batch.getScoredSortedSet(key, StringCodec.INSTANCE)
-                    .removeRangeByScoreAsync(0, true, cutOffTime, true);
-        }
-
-        // 각 대기열에서 사용자를 poll
-        keys.forEach((key, value) -> {
-            int countToFetch = calculateProportionalSize(value, totalBacklog);
-
-            RScoredSortedSetAsync<T> set = batch.getScoredSortedSet(key, StringCodec.INSTANCE);
-            futures.put(key, set.pollFirstAsync(countToFetch));
-        });
-
-        // SetCache 비활성화는 TTL에 의해 처리 (대기열에 새로운 사용자가 없을시 TTL이 갱신되지 않아 자연스럽게 소멸)
-        // SetCache는 있고 실제 대기열에 데이터가 없어도 문제 없음
+    private MatchingProfile decodeProfile(byte[] raw) {
+        ByteBuf buf = Unpooled.wrappedBuffer(raw);
 
         try {
-            batch.execute();
-        } catch (RedisException e) {
-            log.error(e.getMessage(), e);
-            return Collections.emptyMap();
+            Object decoded = redissonClient.getConfig().getCodec().getValueDecoder().decode(buf, new State());
+            return decoded instanceof MatchingProfile profile ? profile : null;
+        } catch (IOException e) {
+            log.warn("Failed to decode matching profile", e);
+            return null;
+        } finally {
+            buf.release();
         }
-
-        // 결과 매핑 및 반환
-        return futures.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> {
-                            Collection<T> values = entry.getValue().toCompletableFuture().join();
-
-                            return values.stream()
-                                    .map(mapper)
-                                    .collect(Collectors.toCollection(LinkedList::new));
-                        },
-                        (a, b) -> a,
-                        LinkedHashMap::new
-                ));
     }
 
-    private long calculateTotalSizes(Map<String, Integer> keys) {
-        if (keys == null || keys.isEmpty()) {
-            return -1;
-        }
-
-        // keys 총합 계산
-        return keys.values().stream()
-                .mapToLong(Integer::longValue)
-                .sum();
-    }
+    /**
+     * RedissonClient Codec으로 값 인코딩 (스크립트에서 Bucket 값으로 직접 저장할 때 사용)
+     */
+    private byte[] encodeValue(Object value) {
+        ByteBuf buf = null;
 
-    private int calculateProportionalSize(int value, long totalSize) {
-        if (totalSize <= MatchingConstants.REDIS_BATCH_SIZE) {
-            // Case A: 전체 데이터가 제한보다 적으면 있는 그대로
-            return value;
-        } else {
-            // Case B: 전체 데이터가 제한보다 많으면 비례해서 -> (현재 큐크기 / 전체 크기) * 최대제한
-            double ratio = (double) value / totalSize;
-            return (int) Math.ceil(ratio * MatchingConstants.REDIS_BATCH_SIZE);
+        try {
+            buf = redissonClient.getConfig().getCodec().getValueEncoder().encode(value);
+            return ByteBufUtil.getBytes(buf);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode value: " + value, e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
         }
     }
 
-    private Set<String> buildUserIds(Map<String, List<String>> groups) {
-        return groups.values().stream()
-                .flatMap(List::stream)
-                .collect(Collectors.toSet());
+    /**
+     * 스크립트 인자 인코딩 (ByteArrayCodec 사용, byte[]는 그대로 전달)
+     */
+    private Object[] encodeArgs(Object... args) {
+        return Arrays.stream(args)
+                .map(arg -> arg instanceof byte[] ? arg : String.valueOf(arg).getBytes(StandardCharsets.UTF_8))
+                .toArray();
     }
 
 }
@@ -5,30 +5,100 @@ import com.flyby.ramble.matching.util.RedisKeyBuilder;
 import com.flyby.ramble.session.dto.ParticipantData;
 import com.flyby.ramble.session.dto.SessionData;
 import com.flyby.ramble.session.event.SessionEndedEvent;
-import com.flyby.ramble.session.service.SessionService;
+import com.flyby.ramble.session.service.SessionWriteBehind;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
 import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-
+import java.util.UUID;
+
+/**
+ * 매칭 세션 관리
+ * <p>
+ * 세션 정보는 참가자별 키({@link MatchingConstants#SESSION_ROUTE})에 각각 저장하여 참가자 ID로 한 번에 조회.
+ * 기존 키(세션 키 + userId → sessionId 매핑)는 더 이상 기록하지 않고, 세션 TTL 동안만 함께 조회/삭제.
+ * </p>
+ * <p>
+ * 시그널링 중계 경로의 상대방 조회는 노드 로컬 캐시(userId → partnerId)를 먼저 확인.
+ * 매칭 확정 시 이 노드의 항목을 덮어쓰고 {@link MatchingConstants#SESSION_OPENED} 채널로 다른 노드의 항목을 무효화
+ * (재매칭된 사용자의 이전 상대방이 남지 않도록). 세션 종료 시 {@link MatchingConstants#SESSION_CLOSED} 채널로 모든 노드의 항목을 무효화.
+ * Pub/Sub은 최대 1회 전달이므로 채널 (재)구독 시 캐시를 비우고, 항목은 세션 TTL이 지나면 만료.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SessionManager {
     private final RedissonClient redissonClient;
-    private final SessionService sessionService;
+    private final SessionWriteBehind sessionWriteBehind;
     private final ApplicationEventPublisher eventPublisher;
 
+    private final Cache<String, String> partnerCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(MatchingConstants.SESSION_TTL))
+            .maximumSize(MatchingConstants.PARTNER_CACHE_SIZE)
+            .build();
+
+    // 매칭 확정 알림 발행 노드 구분 (자기 알림으로 방금 채운 항목을 지우지 않도록)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private RTopic closedTopic;
+    private RTopic openedTopic;
+    private int messageListenerId;
+    private int statusListenerId;
+    private int openedListenerId;
+    private int openedStatusListenerId;
+
+    @PostConstruct
+    private void subscribe() {
+        closedTopic = redissonClient.getTopic(MatchingConstants.SESSION_CLOSED, StringCodec.INSTANCE);
+
+        // 종료된 세션 참가자 ID (쉼표 구분)
+        messageListenerId = closedTopic.addListener(String.class,
+                (channel, userIds) -> partnerCache.invalidateAll(Arrays.asList(userIds.split(","))));
+        // 연결이 끊긴 동안 놓친 무효화 알림이 있을 수 있으므로 (재)구독 시 전체 무효화
+        statusListenerId = closedTopic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                partnerCache.invalidateAll();
+            }
+        });
+
+        openedTopic = redissonClient.getTopic(MatchingConstants.SESSION_OPENED, StringCodec.INSTANCE);
+
+        // 발행 노드 ID, 매칭된 참가자 ID (쉼표 구분)
+        openedListenerId = openedTopic.addListener(String.class, (channel, message) -> onSessionsOpened(message));
+        openedStatusListenerId = openedTopic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                partnerCache.invalidateAll();
+            }
+        });
+    }
+
+    @PreDestroy
+    private void unsubscribe() {
+        closedTopic.removeListener(messageListenerId, statusListenerId);
+        openedTopic.removeListener(openedListenerId, openedStatusListenerId);
+    }
+
     /**
      * 매칭 세션 저장
      * DB에 세션 저장하고 Redis에 세션 정보 저장
@@ -40,8 +110,8 @@ public class SessionManager {
 
         // Redis 세션 저장
         saveSessionsToRedis(list);
-        // DB 세션 저장 (Spring Retry로 자동 재시도)
-        sessionService.saveSessionsAsync(list);
+        // DB 세션 저장 (write-behind, 매칭 경로는 DB를 기다리지 않음)
+        sessionWriteBehind.submit(list);
     }
 
     /**
@@ -57,6 +127,8 @@ public class SessionManager {
 
         // Redis에서 세션 정보 삭제
         executeDeleteBuckets(buildRelatedKeys(session));
+        // 상대방 캐시 무효화 (이 노드 + 다른 노드)
+        invalidatePartners(session);
         // 세션 종료 이벤트
         publishEndedEvent(session);
 
@@ -64,7 +136,7 @@ public class SessionManager {
     }
 
     /**
-     * 세션 ID로 세션 조회
+     * 세션 ID로 세션 조회 (기존 키)
      *
      * @param sessionId 세션 ID
      * @return 세션 정보 (없으면 null)
@@ -83,18 +155,48 @@ public class SessionManager {
      * @return 세션 정보 (없으면 null)
      */
     public SessionData getSessionByUserId(String userId) {
-        String sessionUserKey = RedisKeyBuilder.buildSessionUserKey(userId);
+        // 참가자별 세션 정보 + 기존 userId -> sessionId 매핑을 한 번에 조회
+        RBatch batch = redissonClient.createBatch();
+        batch.getBucket(RedisKeyBuilder.buildSessionRouteKey(userId)).getAsync();
+        batch.getBucket(RedisKeyBuilder.buildSessionUserKey(userId)).getAsync();
 
-        // userId -> sessionId 조회
-        RBucket<String> userBucket = redissonClient.getBucket(sessionUserKey);
-        String sessionId = userBucket.get();
+        List<?> responses = batch.execute().getResponses();
 
-        if (sessionId == null) {
-            return null;
+        if (responses.get(0) instanceof SessionData session) {
+            return session;
+        }
+
+        // 기존 키로 저장된 세션 (배포 이전 매칭)
+        if (responses.get(1) instanceof String sessionId) {
+            return getSession(sessionId);
+        }
+
+        return null;
+    }
+
+    /**
+     * 사용자의 상대방 ID 조회 (시그널링 중계 경로)
+     * <p>
+     * 노드 로컬 캐시를 먼저 확인하고, 없으면 Redis에서 세션을 조회한 뒤 캐시에 저장.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @return 상대방 ID (활성 세션이 없으면 null)
+     */
+    public String getPartnerId(String userId) {
+        String partnerId = partnerCache.getIfPresent(userId);
+
+        if (partnerId != null) {
+            return partnerId;
         }
 
-        // sessionId -> SessionData 조회
-        return getSession(sessionId);
+        partnerId = findPartnerId(getSessionByUserId(userId), userId);
+
+        if (partnerId != null) {
+            partnerCache.put(userId, partnerId);
+        }
+
+        return partnerId;
     }
 
     /**
@@ -137,14 +239,10 @@ public class SessionManager {
         RBatch batch = redissonClient.createBatch();
 
         for (SessionData session : chunk) {
-            String sessionId = session.sessionId().toString();
-
-            // 원본 데이터 (sessionID -> SessionDto) 저장
-            batch.getBucket(RedisKeyBuilder.buildSessionKey(sessionId)).setAsync(session, ttl);
-            // 참조 데이터 (User -> sessionID) 저장
+            // 참가자별로 세션 정보 저장 (userId -> SessionData)
             for (ParticipantData participant : session.participants()) {
-                String key = RedisKeyBuilder.buildSessionUserKey(participant.userExternalId());
-                batch.getBucket(key).setAsync(sessionId, ttl);
+                String key = RedisKeyBuilder.buildSessionRouteKey(participant.userExternalId());
+                batch.getBucket(key).setAsync(session, ttl);
             }
         }
 
@@ -152,7 +250,48 @@ public class SessionManager {
             batch.execute();
         } catch (RedisException e) {
             log.error("Redis 배치 저장 실패: chunkSize={}", chunk.size(), e);
+            return;
+        }
+
+        // 저장에 성공한 세션만 상대방 캐시에 등록 (이 노드는 덮어쓰고, 다른 노드는 무효화)
+        StringBuilder message = new StringBuilder(instanceId);
+
+        for (SessionData session : chunk) {
+            List<ParticipantData> participants = session.participants();
+            String first  = participants.get(0).userExternalId();
+            String second = participants.get(1).userExternalId();
+
+            partnerCache.put(first, second);
+            partnerCache.put(second, first);
+            message.append(',').append(first).append(',').append(second);
         }
+
+        openedTopic.publishAsync(message.toString());
+    }
+
+    /**
+     * 다른 노드의 매칭 확정 알림 → 참가자의 상대방 캐시 무효화
+     * 이 노드가 발행한 알림은 이미 캐시를 덮어썼으므로 무시
+     *
+     * @param message 발행 노드 ID, 참가자 ID (쉼표 구분)
+     */
+    private void onSessionsOpened(String message) {
+        List<String> ids = Arrays.asList(message.split(","));
+
+        if (ids.get(0).equals(instanceId)) {
+            return;
+        }
+
+        partnerCache.invalidateAll(ids.subList(1, ids.size()));
+    }
+
+    private void invalidatePartners(SessionData sessionInfo) {
+        List<String> userIds = sessionInfo.participants().stream()
+                .map(ParticipantData::userExternalId)
+                .toList();
+
+        partnerCache.invalidateAll(userIds);
+        closedTopic.publishAsync(String.join(",", userIds));
     }
 
     /**
@@ -191,13 +330,14 @@ public class SessionManager {
 
     private Set<String> buildRelatedKeys(SessionData sessionInfo) {
         Set<String> keys = new HashSet<>();
-        // 원본 키
+        // 기존 원본 키
         String sessionId = sessionInfo.sessionId().toString();
         keys.add(RedisKeyBuilder.buildSessionKey(sessionId));
 
-        // 참조 데이터 키
+        // 참가자별 세션 정보 키 + 기존 참조 데이터 키
         for (ParticipantData participant : sessionInfo.participants()) {
             String participantId = participant.userExternalId();
+            keys.add(RedisKeyBuilder.buildSessionRouteKey(participantId));
             keys.add(RedisKeyBuilder.buildSessionUserKey(participantId));
         }
 
@@ -1,18 +1,63 @@
 package com.flyby.ramble.matching.manager;
 
+import com.flyby.ramble.common.broker.UserMessageBroker;
+import com.flyby.ramble.common.dto.RawJson;
+import com.flyby.ramble.common.properties.MatchingProperties;
 import com.flyby.ramble.matching.constants.MatchingConstants;
 import com.flyby.ramble.matching.dto.MatchResultDTO;
 import com.flyby.ramble.matching.dto.SignalMessageDTO;
-import lombok.RequiredArgsConstructor;
+import com.flyby.ramble.matching.model.SignalType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매칭 결과 / 시그널링 메시지 전송
+ * <p>
+ * ICE candidate 묶음 전송(matching.signaling.coalesce-enabled)을 켜면 (송신자, 수신자)별로 CANDIDATE를
+ * coalesce-window 동안 모아 CANDIDATE_BATCH(version 1, data: candidate data 배열) 한 프레임으로 전송.
+ * 모인 candidate가 1개면 CANDIDATE 그대로 전송. OFFER/ANSWER는 기다리지 않고, 같은 쌍의 대기 중인 candidate를
+ * 먼저 보낸 뒤 바로 전송.
+ * </p>
+ * <ul>
+ *     <li>signaling.candidate.batch.size : 묶음 1회당 candidate 수</li>
+ * </ul>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SignalingRelayer {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserMessageBroker userMessageBroker;
+    private final MatchingProperties matchingProperties;
+    private final TaskScheduler taskScheduler;
+
+    // (송신자, 수신자) → 전송 대기 중인 candidate data
+    private final Map<CandidateRoute, List<RawJson>> pendingCandidates = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSizeSummary;
+
+    public SignalingRelayer(
+            UserMessageBroker userMessageBroker,
+            MatchingProperties matchingProperties,
+            @Qualifier("signalingTaskScheduler") TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        this.userMessageBroker = userMessageBroker;
+        this.matchingProperties = matchingProperties;
+        this.taskScheduler = taskScheduler;
+
+        this.batchSizeSummary = DistributionSummary.builder("signaling.candidate.batch.size")
+                .description("묶음 1회당 ICE candidate 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 매칭 결과를 사용자에게 전송
@@ -22,7 +67,7 @@ public class SignalingRelayer {
      */
     public void sendMatchingResult(String userId, MatchResultDTO result) {
         try {
-            messagingTemplate.convertAndSendToUser(userId, MatchingConstants.SUBSCRIPTION_MATCHING, result);
+            userMessageBroker.sendToUser(userId, MatchingConstants.SUBSCRIPTION_MATCHING, result);
             log.debug("매칭 결과 전송: userId={}", userId);
         } catch (Exception e) {
             log.error("매칭 결과 전송 실패: userId={}", userId, e);
@@ -31,16 +76,104 @@ public class SignalingRelayer {
 
     /**
      * 시그널링 메시지를 중계
-     * 송신자 ID를 메시지에 설정하고 수신자에게 전송
+     * 송신자 ID를 메시지에 설정하고 수신자에게 전송 (묶음 전송 시 CANDIDATE는 모아서 전송)
      *
      * @param senderId 송신자 ID
      * @param message 시그널링 메시지
      */
     public void sendSignalingMessage(String senderId, SignalMessageDTO message) {
         message.setSenderId(senderId);
+
+        if (!matchingProperties.isCandidateCoalesceEnabled()) {
+            relaySignalingMessage(message.getReceiverId(), message);
+            return;
+        }
+
+        CandidateRoute route = new CandidateRoute(senderId, message.getReceiverId());
+
+        if (message.getType() == SignalType.CANDIDATE) {
+            bufferCandidate(route, message.getData());
+            return;
+        }
+
+        // OFFER/ANSWER: 순서를 지키기 위해 대기 중인 candidate를 먼저 보내고 즉시 전송
+        flushCandidates(route);
         relaySignalingMessage(message.getReceiverId(), message);
     }
 
+    int getPendingRouteCount() {
+        return pendingCandidates.size();
+    }
+
+    private void bufferCandidate(CandidateRoute route, RawJson candidate) {
+        boolean[] first = new boolean[1];
+        int[] size = new int[1];
+
+        pendingCandidates.compute(route, (key, candidates) -> {
+            if (candidates == null) {
+                candidates = new ArrayList<>();
+                first[0] = true;
+            }
+            candidates.add(candidate);
+            size[0] = candidates.size();
+            return candidates;
+        });
+
+        if (size[0] >= matchingProperties.getCandidateCoalesceMaxBatch()) {
+            flushCandidates(route);
+        } else if (first[0]) {
+            taskScheduler.schedule(() -> flushCandidates(route),
+                    Instant.now().plus(matchingProperties.getCandidateCoalesceWindow()));
+        }
+    }
+
+    /**
+     * 대기 중인 candidate 전송 (1개면 CANDIDATE, 2개 이상이면 CANDIDATE_BATCH)
+     */
+    private void flushCandidates(CandidateRoute route) {
+        List<RawJson> candidates = pendingCandidates.remove(route);
+
+        if (candidates == null || candidates.isEmpty()) {
+            return;
+        }
+
+        batchSizeSummary.record(candidates.size());
+
+        SignalMessageDTO message = candidates.size() == 1
+                ? SignalMessageDTO.builder()
+                        .senderId(route.senderId())
+                        .receiverId(route.receiverId())
+                        .type(SignalType.CANDIDATE)
+                        .data(candidates.get(0))
+                        .build()
+                : SignalMessageDTO.builder()
+                        .senderId(route.senderId())
+                        .receiverId(route.receiverId())
+                        .type(SignalType.CANDIDATE_BATCH)
+                        .version(MatchingConstants.SIGNAL_BATCH_VERSION)
+                        .data(toArray(candidates))
+                        .build();
+
+        relaySignalingMessage(route.receiverId(), message);
+    }
+
+    /**
+     * candidate data를 해석하지 않고 JSON 배열로 연결
+     */
+    private static RawJson toArray(List<RawJson> candidates) {
+        StringBuilder array = new StringBuilder("[");
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            RawJson candidate = candidates.get(i);
+            array.append(candidate == null ? "null" : candidate.json());
+        }
+
+        return RawJson.of(array.append(']').toString());
+    }
+
     /**
      * 시그널링 메시지를 상대방에게 전송
      *
@@ -49,10 +182,13 @@ public class SignalingRelayer {
      */
     private void relaySignalingMessage(String userId, SignalMessageDTO message) {
         try {
-            messagingTemplate.convertAndSendToUser(userId, MatchingConstants.SUBSCRIPTION_SIGNALING, message);
+            userMessageBroker.sendToUser(userId, MatchingConstants.SUBSCRIPTION_SIGNALING, message);
             log.debug("시그널링 메시지 전송: userId={}, type={}", userId, message.getType());
         } catch (Exception e) {
             log.error("시그널링 메시지 전송 실패: userId={}, type={}", userId, message.getType(), e);
         }
     }
-}
\ No newline at end of file
+
+    private record CandidateRoute(String senderId, String receiverId) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.flyby.ramble.matching.model;
+
+import com.flyby.ramble.matching.util.QueueCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건 완화 단계
+ * <p>
+ * 매칭 엔진의 단계(1·2·3단계)이자, 매칭되지 못한 인원을 대기 시간에 따라 재등록하는 대기열(보조 인덱스)의 기준.
+ * 완화 대기열에 있는 인원은 해당 단계의 조건으로만 그룹핑되므로, 다음 틱에 같은 단계로 완화된 다른 인원과 바로 짝지어짐.
+ * </p>
+ */
+@RequiredArgsConstructor
+public enum QueueTier {
+    EXACT(0),                                               // 성별:언어:지역
+    LANGUAGE(QueueCode.REGION_MASK),                        // 성별:언어
+    GENDER(QueueCode.REGION_MASK | QueueCode.LANGUAGE_MASK); // 성별
+
+    private final int relaxMask;
+
+    /**
+     * 코드의 조건을 이 단계로 완화 (이미 완화된 필드는 유지)
+     */
+    public int apply(int code) {
+        return code | relaxMask;
+    }
+
+}
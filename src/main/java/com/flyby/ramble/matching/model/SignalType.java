@@ -6,5 +6,6 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 public enum SignalType {
     OFFER,
     ANSWER,
-    CANDIDATE
+    CANDIDATE,
+    CANDIDATE_BATCH // 서버 → 클라이언트 전용. data: CANDIDATE data 배열 (version 1)
 }
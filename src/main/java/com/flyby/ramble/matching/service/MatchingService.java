@@ -1,28 +1,37 @@
 package com.flyby.ramble.matching.service;
 
+import com.flyby.ramble.common.properties.MatchingProperties;
 import com.flyby.ramble.matching.constants.MatchingConstants;
 import com.flyby.ramble.matching.dto.*;
+import com.flyby.ramble.matching.engine.MatchingEngine;
+import com.flyby.ramble.matching.event.MatchQueuedEvent;
 import com.flyby.ramble.matching.manager.QueueManager;
 import com.flyby.ramble.matching.manager.SessionManager;
 import com.flyby.ramble.matching.manager.SignalingRelayer;
+import com.flyby.ramble.matching.model.QueueTier;
 import com.flyby.ramble.matching.model.Region;
 import com.flyby.ramble.matching.model.RtcRole;
+import com.flyby.ramble.matching.model.SignalType;
+import com.flyby.ramble.matching.util.QueueCode;
+import com.flyby.ramble.matching.util.RedisKeyBuilder;
 import com.flyby.ramble.session.dto.ParticipantData;
 import com.flyby.ramble.session.dto.SessionData;
 import com.flyby.ramble.user.dto.UserInfoDTO;
 import com.flyby.ramble.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -32,8 +41,13 @@ public class MatchingService {
     private final SessionManager sessionManager;
     private final SignalingRelayer signalingRelayer;
     private final RedissonClient redissonClient;
+    private final MatchingProperties matchingProperties;
 
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 파티션 락 시도 시작 위치 (노드마다 임의로 시작, tick마다 이동)
+    private final AtomicInteger partitionCursor = new AtomicInteger(ThreadLocalRandom.current().nextInt(QueueCode.PARTITIONS.size()));
 
     // TODO: MatchResultDTO.failed 에러 메시지 추후 관리
 
@@ -49,62 +63,80 @@ public class MatchingService {
         UserInfoDTO requesterInfo = userService.getUserByExternalId(userId);
         MatchingProfile requesterProfile = buildMatchingProfile(requesterInfo, region, request);
 
-        RLock lock = redissonClient.getLock(MatchingConstants.MATCHING_LOCK);
-
-        try {
-            if (!lock.tryLock(3, TimeUnit.SECONDS)) {
-                log.warn("매칭 요청 락 획득 실패: userId={}", userId);
-                return MatchResultDTO.failed("현재 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
-            }
+        // 기존 대기 항목 교체 + 신규 등록 (락 없이 원자적으로 처리, 등록 시각으로 펜싱)
+        EnqueueResult result = queueManager.replace(requesterProfile);
 
-            disconnectUser(userId, System.currentTimeMillis());
-            boolean result = queueManager.enqueue(requesterProfile);
+        if (!result.enqueued()) {
+            return MatchResultDTO.failed("대기열 등록에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        }
 
-            return result ?
-                    MatchResultDTO.waiting() :
-                    MatchResultDTO.failed("대기열 등록에 실패했습니다. 잠시 후 다시 시도해주세요.");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return MatchResultDTO.failed("매칭 요청 처리 중 오류가 발생했습니다.");
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+        // 활성 세션 중 재요청 → 세션 종료
+        if (result.inSession()) {
+            terminateSession(userId);
         }
+
+        // 매칭 트리거 (MatchingTriggerListener)
+        eventPublisher.publishEvent(new MatchQueuedEvent(userId, requesterProfile.getLanguage()));
+
+        return MatchResultDTO.waiting();
     }
 
     /**
      * 사용자가 연결을 끊었을 때 정리
+     * <p>
+     * 대기 중인 대기열의 파티션 락만 획득하므로 다른 파티션의 요청/매칭과 경합하지 않음.
+     * (완화 대기열로 재등록된 경우 해당 대기열의 파티션)
+     * </p>
      *
      * @param userId 사용자 ID
      * @param disconnectTimestamp 연결 해제 이벤트 발생 시점 (밀리초).
      *                           enqueue 시점보다 이전이면 stale 이벤트로 판단하여 dequeue를 건너뜀.
+     * @return 대기열에서 제거했으면 true (세션 종료, stale 이벤트 등은 false)
      */
-    public void disconnectUser(String userId, long disconnectTimestamp) {
-        RLock lock = redissonClient.getLock(MatchingConstants.MATCHING_LOCK);
+    public boolean disconnectUser(String userId, long disconnectTimestamp) {
+        MatchingProfile profile = queueManager.getProfile(userId);
+
+        // 대기 중이 아니면 락 없이 세션만 정리
+        if (profile == null) {
+            terminateSession(userId);
+            return false;
+        }
+
+        String partition = resolvePartition(userId, profile);
+        RLock lock = redissonClient.getLock(RedisKeyBuilder.buildLockKey(partition));
 
         try {
             if (!lock.tryLock(3, TimeUnit.SECONDS)) {
                 log.warn("disconnectUser 락 획득 실패: userId={}", userId);
-                return;
+                return false;
             }
 
-            MatchingProfile profile = queueManager.getProfile(userId);
+            // 락 대기 중 매칭 워커가 처리했을 수 있으므로 재조회
+            MatchingProfile current = queueManager.getProfile(userId);
 
-            if (profile != null && profile.getQueueEntryTime() > disconnectTimestamp) {
+            if (current != null && current.getQueueEntryTime() > disconnectTimestamp) {
                 log.info("Stale disconnect 무시: userId={}, enqueue={}ms > disconnect={}ms",
-                        userId, profile.getQueueEntryTime(), disconnectTimestamp);
-                return;
+                        userId, current.getQueueEntryTime(), disconnectTimestamp);
+                return false;
             }
 
-            boolean dequeued = queueManager.dequeue(userId);
+            // 락 대기 중 다른 파티션으로 재등록된 경우 해당 파티션 락으로 재시도
+            if (current != null && !partition.equals(resolvePartition(userId, current))) {
+                lock.unlock();
+                return disconnectUser(userId, disconnectTimestamp);
+            }
+
+            boolean dequeued = queueManager.dequeue(current);
 
             if (!dequeued) {
                 terminateSession(userId);
             }
+
+            return dequeued;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.warn("disconnectUser 처리 중 인터럽트 발생: userId={}", userId);
+            return false;
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
@@ -118,8 +150,15 @@ public class MatchingService {
      * @param message    전송할 SignalMessage
      */
     public void relaySignal(String senderId, SignalMessageDTO message) {
-        SessionData session = sessionManager.getSessionByUserId(senderId);
-        String partnerId = sessionManager.findPartnerId(session, senderId);
+        // 페이로드(data)는 해석하지 않고 전달하므로 봉투만 검증 (CANDIDATE_BATCH는 서버 → 클라이언트 전용)
+        if (message.getType() == null || message.getType() == SignalType.CANDIDATE_BATCH
+                || !StringUtils.hasText(message.getReceiverId())) {
+            log.warn("시그널 중계 거부: 잘못된 메시지 [sender={}, receiver={}, type={}]",
+                    senderId, message.getReceiverId(), message.getType());
+            return;
+        }
+
+        String partnerId = sessionManager.getPartnerId(senderId);
 
         if (partnerId == null) {
             log.warn("시그널 중계 실패: 활성 세션 없음 [sender={}, type={}]", senderId, message.getType());
@@ -137,118 +176,132 @@ public class MatchingService {
 
     /* --- 매칭 ---- */
 
-    @Scheduled(fixedDelay = 2000)
+    /**
+     * 파티션(언어, 언어 완화 대기열) 단위로 락을 획득한 뒤, 획득한 파티션의 대기열만 매칭
+     * <p>
+     * 다른 노드가 보유 중인 파티션은 건너뛰므로 여러 노드가 서로 다른 파티션을 동시에 매칭할 수 있음.
+     * 2·3단계 재그룹도 이번 틱에서 poll한 (= 락을 보유한) 파티션 인원만 대상으로 함.
+     * </p>
+     */
     public void processMatchingQueue() {
-        RLock lock = redissonClient.getLock(MatchingConstants.MATCHING_LOCK);
+        processMatchingQueue(MatchingConstants.MATCHING_BATCH_SIZE);
+    }
 
-        try {
-            if (!lock.tryLock(0, 10, TimeUnit.SECONDS)) {
-                return;
-            }
+    /**
+     * @param batchLimit 이번 tick의 최대 poll 인원 (워커가 tick 처리 시간에 따라 조정)
+     */
+    public void processMatchingQueue(int batchLimit) {
+        Map<String, RLock> locks = acquirePartitionLocks();
 
+        if (locks.isEmpty()) {
+            return;
+        }
+
+        List<SessionData> matched = List.of();
+
+        try {
             // 데이터 조회
-            Map<String, List<MatchingProfile>> groups = queueManager.pollWithProfiles();
+            Map<String, List<MatchingProfile>> groups = queueManager.pollWithProfiles(locks.keySet(), batchLimit);
 
             if (groups.isEmpty()) return;
 
-            LocalDateTime now = LocalDateTime.now();
-
-            // 매칭 처리
-            MatchRoundResult round1 = pairCandidates(groups, now);                               // 1단계 매칭 (성별:언어:지역 -> 최대 390개 그룹)
-            MatchRoundResult round2 = pairCandidates(regroupRemaining(round1.remaining()), now); // 2단계 매칭 (성별:언어): 매칭 되지 않은 인원(최대 390명, 각 그룹당 1명)을 재그룹해서 매칭
-            MatchRoundResult round3 = pairCandidates(regroupRemaining(round2.remaining()), now); // 3단계 매칭 (무작위): 남은 인원 전체(최대 26명)에서 매칭
+            // 후보 평탄화: 인덱스 ↔ 프로필, 인덱스별 대기열 코드
+            List<MatchingProfile> candidates = new ArrayList<>();
+            int[] codes = flattenCandidates(groups, candidates);
 
-            List<SessionData> allMatched = Stream.of(round1, round2, round3)
-                    .flatMap(r -> r.matched().stream())
-                    .toList();
+            // 매칭 처리 (1단계 성별:언어:지역 → 2단계 성별:언어 → 3단계 무작위/성별)
+            MatchingEngine.Result result = MatchingEngine.match(codes);
 
-            finalizeMatches(allMatched);
-            requeueUnmatched(round3.remaining());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            matched = finalizeMatches(result, candidates);
+            requeueUnmatched(result, candidates);
         } catch (Exception e) {
             log.error("매칭 워커 오류 발생", e);
         } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+            long threadId = Thread.currentThread().getId();
+            locks.values().forEach(lock -> lock.unlockAsync(threadId));
         }
-    }
-
-    private MatchRoundResult pairCandidates(
-            Map<String, List<MatchingProfile>> groups,
-            LocalDateTime now
-    ) {
-        if (groups.isEmpty()) {
-            return new MatchRoundResult(Collections.emptyList(), Collections.emptyMap());
-        }
-
-        List<SessionData> matchedList = new ArrayList<>();
-        Map<String, MatchingProfile> remaining = new HashMap<>();
 
-        // 1번 방법
-        groups.forEach((key, value) -> {
-            Iterator<MatchingProfile> candidates = value.iterator();
+        // 매칭 결과 전송은 락 해제 후 (전송 지연이 다른 노드의 파티션 획득을 막지 않도록)
+        sendMatchResults(matched);
+    }
 
-            while (candidates.hasNext()) {
-                MatchingProfile profile = candidates.next();
+    /**
+     * 파티션 락을 최대 matching.worker.max-partitions개까지 획득
+     * <p>
+     * 노드마다 임의의 위치에서 시작하여 tick마다 한 칸씩 이동한 순서로 시도하므로, 먼저 tick한 노드가
+     * 모든 파티션을 가져가지 않고 노드 간에 나뉨. 필요한 수만큼 비동기로 동시에 시도하고, 실패한 수만큼 다음 파티션을 시도.
+     * </p>
+     */
+    private Map<String, RLock> acquirePartitionLocks() {
+        List<String> partitions = QueueCode.PARTITIONS;
+        int maxPartitions = matchingProperties.getWorkerMaxPartitions();
+        int limit = maxPartitions > 0 ? Math.min(maxPartitions, partitions.size()) : partitions.size();
+        int start = Math.floorMod(partitionCursor.getAndIncrement(), partitions.size());
+
+        long threadId = Thread.currentThread().getId();
+        Map<String, RLock> locks = new LinkedHashMap<>();
+        int next = 0;
+
+        while (locks.size() < limit && next < partitions.size()) {
+            Map<String, RFuture<Boolean>> attempts = new LinkedHashMap<>();
+            Map<String, RLock> candidates = new HashMap<>();
+
+            for (int i = locks.size(); i < limit && next < partitions.size(); i++, next++) {
+                String partition = partitions.get((start + next) % partitions.size());
+                RLock lock = redissonClient.getLock(RedisKeyBuilder.buildLockKey(partition));
+                candidates.put(partition, lock);
+                attempts.put(partition, lock.tryLockAsync(0, MatchingConstants.LOCK_LEASE_TIME, TimeUnit.SECONDS, threadId));
+            }
 
-                if (candidates.hasNext()) { // 짝이 있는 경우: 매칭 리스트에 추가
-                    matchedList.add(new SessionData(now, List.of(
-                            ParticipantData.from(profile),
-                            ParticipantData.from(candidates.next())
-                    )));
-                } else { // 짝이 없는 경우(홀수): remaining 맵에 추가
-                    remaining.put(key, profile);
+            attempts.forEach((partition, attempt) -> {
+                try {
+                    if (Boolean.TRUE.equals(attempt.toCompletableFuture().join())) {
+                        locks.put(partition, candidates.get(partition));
+                    }
+                } catch (Exception e) {
+                    log.warn("매칭 파티션 락 획득 실패: partition={}", partition, e);
                 }
-            }
-        });
+            });
+        }
 
-        return new MatchRoundResult(matchedList, remaining);
+        return locks;
     }
 
     /**
-     * 하나씩 남은 그룹에 대해서 리그룹 진행
+     * 매칭 쌍의 세션을 생성하고 대기 프로필 삭제
+     *
+     * @return 생성된 세션 (매칭 결과 전송 대상)
      */
-    private Map<String, List<MatchingProfile>> regroupRemaining(Map<String, MatchingProfile> remaining) {
-        if (remaining == null || remaining.isEmpty()) {
-            return Collections.emptyMap();
+    private List<SessionData> finalizeMatches(MatchingEngine.Result result, List<MatchingProfile> candidates) {
+        if (result.pairCount() == 0) {
+            return List.of();
         }
 
-        boolean mergeMode = remaining.size() <= 6; // 임시값. 현재는 유지
-
-        // 2. Stream을 이용한 일괄 처리
-        return remaining.entrySet().stream()
-                .collect(Collectors.groupingBy(
-                        entry -> {
-                            if (mergeMode) return "MergedGroup";
-
-                            // (성별:언어:지역) 조건에서 마지막 조건 제거
-                            String key = entry.getKey();
-                            int lastIdx = key.lastIndexOf(':');
-                            return (lastIdx == -1) ? key : key.substring(0, lastIdx);
-                        },
-                        Collectors.mapping(Map.Entry::getValue, Collectors.toCollection(LinkedList::new))
-                ));
-    }
+        LocalDateTime now = LocalDateTime.now();
 
-    private void finalizeMatches(List<SessionData> matchedList) {
-        if (matchedList.isEmpty()) {
-            return;
+        // 최종 매칭 쌍에 대해서만 SessionData 생성
+        List<SessionData> matchedList = new ArrayList<>(result.pairCount());
+        List<MatchingProfile> matchedProfiles = new ArrayList<>(result.pairCount() * 2);
+
+        for (int i = 0; i < result.pairCount(); i++) {
+            MatchingProfile first  = candidates.get(result.first(i));
+            MatchingProfile second = candidates.get(result.second(i));
+
+            matchedList.add(new SessionData(now, List.of(ParticipantData.from(first), ParticipantData.from(second))));
+            matchedProfiles.add(first);
+            matchedProfiles.add(second);
         }
 
         // 세션 생성 (DB + Redis)
         sessionManager.saveSessions(matchedList);
 
-        // 매칭된 프로필(userExternalId) 리스트
-        Set<String> list = matchedList.stream()
-                .flatMap(session -> session.participants().stream())
-                .map(ParticipantData::userExternalId)
-                .collect(Collectors.toSet());
+        // poll 시점의 프로필 기준으로 삭제 (그 사이 재요청한 사용자의 신규 등록은 유지)
+        queueManager.releaseProfiles(matchedProfiles);
 
-        queueManager.deleteProfiles(list);
+        return matchedList;
+    }
 
-        // 매칭 결과 전송
+    private void sendMatchResults(List<SessionData> matchedList) {
         for (SessionData session : matchedList) {
             List<ParticipantData> p = session.participants();
             String sessionId = session.sessionId().toString();
@@ -260,15 +313,21 @@ public class MatchingService {
         }
     }
 
-    private void requeueUnmatched(Map<String, MatchingProfile> remaining) {
-        if (remaining.isEmpty()) {
+    private void requeueUnmatched(MatchingEngine.Result result, List<MatchingProfile> candidates) {
+        int[] unmatched = result.unmatched();
+
+        if (unmatched.length == 0) {
             return;
         }
 
-        List<MatchingProfile> profiles = remaining.values().stream().toList();
+        List<MatchingProfile> profiles = new ArrayList<>(unmatched.length);
+        for (int idx : unmatched) {
+            profiles.add(candidates.get(idx));
+        }
 
-        // 매칭 후 인원이 남았다면 다시 큐에 삽입
-        queueManager.requeueAll(profiles);
+        // 매칭 후 인원이 남았다면 대기 시간에 따른 완화 대기열로 다시 큐에 삽입
+        long now = System.currentTimeMillis();
+        queueManager.requeueAll(profiles, profile -> resolveTier(profile, now).apply(QueueCode.of(profile)));
     }
 
     private void terminateSession(String userId) {
@@ -287,6 +346,55 @@ public class MatchingService {
 
     /* --- 헬퍼 ---- */
 
+    /**
+     * 대기 시간(queueEntryTime 기준)에 따른 재등록 완화 단계
+     */
+    private QueueTier resolveTier(MatchingProfile profile, long now) {
+        long waited = now - profile.getQueueEntryTime();
+
+        if (waited >= matchingProperties.getGenderTierAfter().toMillis()) {
+            return QueueTier.GENDER;
+        }
+        if (waited >= matchingProperties.getLanguageTierAfter().toMillis()) {
+            return QueueTier.LANGUAGE;
+        }
+        return QueueTier.EXACT;
+    }
+
+    /**
+     * 대기 중인 대기열의 파티션. 대기 정보가 없으면 프로필 언어 기준
+     */
+    private String resolvePartition(String userId, MatchingProfile profile) {
+        int code = QueueCode.parse(queueManager.getQueueKey(userId));
+        return code != -1 ? QueueCode.partitionOf(code) : QueueCode.partitionOf(QueueCode.of(profile));
+    }
+
+    /**
+     * poll 결과(대기열 키별 그룹)를 후보 목록으로 평탄화
+     * @param candidates 평탄화된 후보를 담을 목록 (인덱스 = 엔진 후보 인덱스)
+     * @return 후보 인덱스별 {@link QueueCode}
+     */
+    private int[] flattenCandidates(Map<String, List<MatchingProfile>> groups, List<MatchingProfile> candidates) {
+        int total = 0;
+        for (List<MatchingProfile> profiles : groups.values()) {
+            total += profiles.size();
+        }
+
+        int[] codes = new int[total];
+        int idx = 0;
+
+        for (Map.Entry<String, List<MatchingProfile>> entry : groups.entrySet()) {
+            int code = QueueCode.parse(entry.getKey());
+
+            for (MatchingProfile profile : entry.getValue()) {
+                codes[idx++] = code != -1 ? code : QueueCode.of(profile);
+                candidates.add(profile);
+            }
+        }
+
+        return codes;
+    }
+
     /**
      * 요청자 프로필 생성
      *
@@ -0,0 +1,130 @@
+package com.flyby.ramble.matching.util;
+
+import com.flyby.ramble.matching.constants.MatchingConstants;
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.user.model.Gender;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 조건(성별:언어:지역)을 int 하나로 표현하는 코드
+ * <pre>
+ * [ gender(5bit) | language(5bit) | region(5bit) ]  각 필드 = enum ordinal, 31 = ANY(조건 없음)
+ * </pre>
+ * 가능한 모든 코드의 대기열 키 문자열을 미리 생성해 두어 키 생성/파싱 시 문자열을 새로 만들지 않음.
+ * 조건 완화({@link com.flyby.ramble.matching.model.QueueTier})는 필드를 ANY로 바꾸는 비트 연산으로 처리.
+ * ANY 필드는 키에 "ANY"로 표기 ("match:queue:MALE:KO:ANY")하여 완화 대기열도 언어 세그먼트 위치가 동일.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueueCode {
+
+    private static final int BITS = 5;
+    private static final int ANY  = (1 << BITS) - 1; // 31
+
+    private static final int REGION_SHIFT   = 0;
+    private static final int LANGUAGE_SHIFT = BITS;
+    private static final int GENDER_SHIFT   = BITS * 2;
+
+    public static final int REGION_MASK   = ANY << REGION_SHIFT;
+    public static final int LANGUAGE_MASK = ANY << LANGUAGE_SHIFT;
+    public static final int GENDER_MASK   = ANY << GENDER_SHIFT;
+
+    /** 모든 조건이 ANY인 코드 (3단계 MergedGroup) */
+    public static final int MERGED = GENDER_MASK | LANGUAGE_MASK | REGION_MASK;
+
+    /** ANY 필드의 키 표기이자, 언어 조건이 완화된 대기열의 파티션 이름 */
+    public static final String WILDCARD = "ANY";
+
+    public static final int SIZE = 1 << (BITS * 3);
+
+    private static final Gender[]   GENDERS   = Gender.values();
+    private static final Language[] LANGUAGES = Language.values();
+    private static final Region[]   REGIONS   = Region.values();
+
+    private static final String[] KEYS = new String[SIZE];
+    private static final Map<String, Integer> CODES = new HashMap<>();
+
+    /** 매칭 파티션 목록 (언어별 + 언어 완화 대기열) */
+    public static final List<String> PARTITIONS;
+
+    static {
+        if (GENDERS.length >= ANY || LANGUAGES.length >= ANY || REGIONS.length >= ANY) {
+            throw new ExceptionInInitializerError("QueueCode 필드 비트 수 초과");
+        }
+
+        for (int g = 0; g <= GENDERS.length; g++) {
+            int gender = g == GENDERS.length ? ANY : g;
+
+            for (int l = 0; l <= LANGUAGES.length; l++) {
+                int language = l == LANGUAGES.length ? ANY : l;
+
+                for (int r = 0; r <= REGIONS.length; r++) {
+                    int region = r == REGIONS.length ? ANY : r;
+
+                    int code = (gender << GENDER_SHIFT) | (language << LANGUAGE_SHIFT) | (region << REGION_SHIFT);
+                    String key = buildKey(gender, language, region).intern();
+
+                    KEYS[code] = key;
+                    CODES.put(key, code);
+                }
+            }
+        }
+
+        List<String> partitions = new ArrayList<>(LANGUAGES.length + 1);
+        for (Language language : LANGUAGES) {
+            partitions.add(language.name());
+        }
+        partitions.add(WILDCARD);
+
+        PARTITIONS = List.copyOf(partitions);
+    }
+
+    public static int of(MatchingProfile profile) {
+        return of(profile.getGender(), profile.getLanguage(), profile.getRegion());
+    }
+
+    public static int of(Gender gender, Language language, Region region) {
+        return (gender.ordinal() << GENDER_SHIFT)
+                | (language.ordinal() << LANGUAGE_SHIFT)
+                | (region.ordinal() << REGION_SHIFT);
+    }
+
+    /**
+     * 코드 → 대기열 키 (미리 생성된 문자열)
+     */
+    public static String toKey(int code) {
+        return KEYS[code];
+    }
+
+    /**
+     * 대기열 키 → 코드
+     * @return 알 수 없는 키면 -1
+     */
+    public static int parse(String key) {
+        Integer code = CODES.get(key);
+        return code != null ? code : -1;
+    }
+
+    /**
+     * 코드가 속한 매칭 파티션 (언어 이름, 언어 조건이 ANY면 {@link #WILDCARD})
+     */
+    public static String partitionOf(int code) {
+        int language = (code & LANGUAGE_MASK) >>> LANGUAGE_SHIFT;
+        return language == ANY ? WILDCARD : LANGUAGES[language].name();
+    }
+
+    private static String buildKey(int gender, int language, int region) {
+        return MatchingConstants.QUEUE
+                + ':' + (gender == ANY ? WILDCARD : GENDERS[gender].name())
+                + ':' + (language == ANY ? WILDCARD : LANGUAGES[language].name())
+                + ':' + (region == ANY ? WILDCARD : REGIONS[region].name());
+    }
+
+}
@@ -3,6 +3,7 @@ package com.flyby.ramble.matching.util;
 import com.flyby.ramble.matching.constants.MatchingConstants;
 import com.flyby.ramble.matching.dto.MatchingProfile;
 import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.QueueTier;
 import com.flyby.ramble.matching.model.Region;
 import com.flyby.ramble.user.model.Gender;
 import lombok.experimental.UtilityClass;
@@ -14,15 +15,22 @@ public class RedisKeyBuilder {
      * 대기열 키 생성 (MatchingProfile)
      */
     public String buildQueueKey(MatchingProfile profile) {
-        return buildQueueKey(profile.getGender(), profile.getLanguage(), profile.getRegion());
+        return QueueCode.toKey(QueueCode.of(profile));
     }
 
     /**
-     * 대기열 키 생성 (성별:언어:지역)
+     * 완화 단계 대기열 키 생성 ("match:queue:MALE:KO:ANY" 등)
+     */
+    public String buildQueueKey(MatchingProfile profile, QueueTier tier) {
+        return QueueCode.toKey(tier.apply(QueueCode.of(profile)));
+    }
+
+    /**
+     * 대기열 키 생성 (성별:언어:지역). {@link QueueCode}에 미리 생성된 키 반환
      */
     public String buildQueueKey(Gender gender, Language language, Region region) {
-        // "%s:%s:%s:%s" 형식
-        return MatchingConstants.QUEUE + ":" + gender.name() + ":" + language.name() + ":" + region.name();
+        // "match:queue:%s:%s:%s" 형식
+        return QueueCode.toKey(QueueCode.of(gender, language, region));
     }
 
     /**
@@ -40,6 +48,36 @@ public class RedisKeyBuilder {
         return MatchingConstants.PROFILE + ":" + userId;
     }
 
+    /**
+     * 대기 정보 키 생성 (userId)
+     */
+    public String buildMemberKey(String userId) {
+        validateKey(userId);
+        return MatchingConstants.MEMBER + ":" + userId;
+    }
+
+    /**
+     * 매칭 락 키 생성 (언어 파티션)
+     */
+    public String buildLockKey(Language language) {
+        return buildLockKey(language.name());
+    }
+
+    /**
+     * 매칭 락 키 생성 (파티션 이름, {@link QueueCode#PARTITIONS})
+     */
+    public String buildLockKey(String partition) {
+        return MatchingConstants.MATCHING_LOCK + ":" + partition;
+    }
+
+    /**
+     * 참가자별 세션 정보 키 생성 (userId)
+     */
+    public String buildSessionRouteKey(String userId) {
+        validateKey(userId);
+        return MatchingConstants.SESSION_ROUTE + ":" + userId;
+    }
+
     public String buildSessionKey(String key) {
         validateKey(key);
         return MatchingConstants.SESSION + ":" + key;
@@ -0,0 +1,131 @@
+package com.flyby.ramble.matching.worker;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.manager.QueueManager;
+import com.flyby.ramble.matching.service.MatchingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매칭 워커. matchingTaskScheduler에서 매칭 tick을 실행하고 지표를 기록
+ * <ul>
+ *     <li>matching.tick.duration : tick 처리 시간</li>
+ *     <li>matching.tick.overrun  : tick 예산(matching.worker.tick-budget) 초과 횟수</li>
+ *     <li>matching.tick.lag      : 예정 시각 대비 fallback tick 시작 지연 (ms)</li>
+ *     <li>matching.queue.depth   : 활성 대기열 전체 인원</li>
+ *     <li>matching.batch.limit   : tick당 최대 poll 인원</li>
+ * </ul>
+ * tick당 최대 poll 인원은 처리 시간으로 조정 (AIMD). 예산을 넘으면 절반으로 줄이고, 예산의 절반 미만이면 step만큼 늘림.
+ */
+@Slf4j
+@Component
+public class MatchingWorker {
+    private final MatchingService matchingService;
+    private final MatchingProperties matchingProperties;
+
+    private final Timer tickTimer;
+    private final Counter overrunCounter;
+
+    private final AtomicLong lastScheduledEnd = new AtomicLong();
+    private final AtomicLong tickLag = new AtomicLong();
+    private final AtomicInteger batchLimit;
+
+    public MatchingWorker(
+            MatchingService matchingService,
+            QueueManager queueManager,
+            MatchingProperties matchingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.matchingService = matchingService;
+        this.matchingProperties = matchingProperties;
+        this.batchLimit = new AtomicInteger(matchingProperties.getBatchLimitMax());
+
+        this.tickTimer = Timer.builder("matching.tick.duration")
+                .description("매칭 tick 처리 시간")
+                .register(meterRegistry);
+        this.overrunCounter = Counter.builder("matching.tick.overrun")
+                .description("tick 예산 초과 횟수")
+                .register(meterRegistry);
+
+        Gauge.builder("matching.tick.lag", tickLag, AtomicLong::get)
+                .description("fallback tick 시작 지연")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("matching.batch.limit", batchLimit, AtomicInteger::get)
+                .description("tick당 최대 poll 인원")
+                .register(meterRegistry);
+        // scrape 시점에 조회 (tick 경로에 Redis 호출을 추가하지 않음)
+        Gauge.builder("matching.queue.depth", queueManager,
+                        manager -> manager.getActiveQueueSizes().values().stream().mapToInt(Integer::intValue).sum())
+                .description("활성 대기열 전체 인원")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 고정 주기 fallback tick (이벤트 트리거를 받지 못한 노드, 재등록 인원 처리)
+     */
+    @Scheduled(fixedDelayString = "${matching.worker.tick-interval:2s}", scheduler = "matchingTaskScheduler")
+    public void scheduledTick() {
+        long now = System.currentTimeMillis();
+        long previousEnd = lastScheduledEnd.get();
+
+        if (previousEnd > 0) {
+            long expected = previousEnd + matchingProperties.getWorkerTickInterval().toMillis();
+            tickLag.set(Math.max(0, now - expected));
+        }
+
+        try {
+            tick();
+        } finally {
+            lastScheduledEnd.set(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 매칭 1회 실행 + 처리 시간/예산 초과 기록, 다음 tick 최대 poll 인원 조정
+     */
+    public void tick() {
+        long start = System.nanoTime();
+
+        try {
+            matchingService.processMatchingQueue(batchLimit.get());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            tickTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            long budget = matchingProperties.getWorkerTickBudget().toNanos();
+            if (elapsed > budget) {
+                overrunCounter.increment();
+                log.warn("매칭 tick 예산 초과: elapsed={}ms, budget={}ms, batchLimit={}",
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), TimeUnit.NANOSECONDS.toMillis(budget), batchLimit.get());
+            }
+
+            adjustBatchLimit(elapsed, budget);
+        }
+    }
+
+    int getBatchLimit() {
+        return batchLimit.get();
+    }
+
+    private void adjustBatchLimit(long elapsed, long budget) {
+        int min = matchingProperties.getBatchLimitMin();
+        int max = matchingProperties.getBatchLimitMax();
+
+        if (elapsed > budget) {
+            batchLimit.updateAndGet(limit -> Math.max(min, limit / 2));
+        } else if (elapsed < budget / 2) {
+            batchLimit.updateAndGet(limit -> Math.min(max, limit + matchingProperties.getBatchLimitStep()));
+        }
+    }
+
+}
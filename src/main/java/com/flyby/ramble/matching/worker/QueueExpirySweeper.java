@@ -0,0 +1,55 @@
+package com.flyby.ramble.matching.worker;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.dto.ExpirySweepResult;
+import com.flyby.ramble.matching.manager.QueueManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 만료 항목 sweeper. 매칭 tick과 분리하여 대기열 디렉터리를 slice 단위로 순회
+ * <ul>
+ *     <li>matching.queue.expired : 만료로 제거된 대기 항목 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class QueueExpirySweeper {
+    private final QueueManager queueManager;
+    private final MatchingProperties matchingProperties;
+
+    private final Counter expiredCounter;
+
+    private volatile String cursor = "0";
+
+    public QueueExpirySweeper(
+            QueueManager queueManager,
+            MatchingProperties matchingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.queueManager = queueManager;
+        this.matchingProperties = matchingProperties;
+
+        this.expiredCounter = Counter.builder("matching.queue.expired")
+                .description("만료로 제거된 대기 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 slice sweep (마지막 slice 이후에는 처음부터 다시 순회)
+     */
+    @Scheduled(fixedDelayString = "${matching.expiry.sweep-interval:1s}")
+    public void sweep() {
+        ExpirySweepResult result = queueManager.sweepExpired(cursor, matchingProperties.getExpirySliceSize());
+        cursor = result.nextCursor();
+
+        if (result.expired() > 0) {
+            expiredCounter.increment(result.expired());
+            log.debug("만료 대기 항목 제거: count={}", result.expired());
+        }
+    }
+
+}
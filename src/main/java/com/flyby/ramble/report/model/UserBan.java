@@ -1,6 +1,7 @@
 package com.flyby.ramble.report.model;
 
 import com.flyby.ramble.common.model.BaseEntity;
+import com.flyby.ramble.common.util.UuidV7;
 import com.flyby.ramble.user.model.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -56,7 +57,7 @@ public class UserBan extends BaseEntity {
 
     @Builder
     public UserBan(User bannedUser, BanReason reason, LocalDateTime bannedAt, LocalDateTime banExpiresAt) {
-        this.externalId = UUID.randomUUID();
+        this.externalId = UuidV7.generate();
         this.bannedUser = bannedUser;
         this.reason = reason;
         this.bannedAt = bannedAt;
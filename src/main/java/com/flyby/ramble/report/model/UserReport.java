@@ -1,6 +1,7 @@
 package com.flyby.ramble.report.model;
 
 import com.flyby.ramble.common.model.BaseEntity;
+import com.flyby.ramble.common.util.UuidV7;
 import com.flyby.ramble.session.model.Session;
 import com.flyby.ramble.user.model.User;
 import jakarta.persistence.*;
@@ -61,7 +62,7 @@ public class UserReport extends BaseEntity {
     @Builder
     public UserReport(User reportedUser, User reportingUser, Session session,
                       ReportReason reason, String detail, UserReportStatus status) {
-        this.externalId = UUID.randomUUID();
+        this.externalId = UuidV7.generate();
         this.reportedUser = reportedUser;
         this.reportingUser = reportingUser;
         this.session = session;
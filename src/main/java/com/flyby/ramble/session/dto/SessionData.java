@@ -1,6 +1,7 @@
 package com.flyby.ramble.session.dto;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.flyby.ramble.common.util.UuidV7;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,6 +17,6 @@ public record SessionData(
     List<ParticipantData> participants
 ) {
     public SessionData(LocalDateTime startedAt, List<ParticipantData> participants) {
-        this(UUID.randomUUID(), startedAt, participants);
+        this(UuidV7.generate(), startedAt, participants);
     }
 }
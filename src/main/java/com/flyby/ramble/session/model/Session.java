@@ -1,6 +1,7 @@
 package com.flyby.ramble.session.model;
 
 import com.flyby.ramble.common.model.BaseEntity;
+import com.flyby.ramble.common.util.UuidV7;
 import com.flyby.ramble.matching.model.Language;
 import com.flyby.ramble.matching.model.Region;
 import com.flyby.ramble.user.model.Gender;
@@ -45,7 +46,7 @@ public class Session extends BaseEntity {
         if (startedAt == null) {
             throw new IllegalArgumentException("startedAt은 null일 수 없습니다.");
         }
-        this.externalId = UUID.randomUUID();
+        this.externalId = UuidV7.generate();
         this.startedAt = startedAt;
     }
 
@@ -7,10 +7,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -39,10 +42,8 @@ public class SessionBatchRepository {
             List<SessionBatchData> batchList = batchDataList.subList(i, Math.min(i + BATCH_SIZE, batchDataList.size()));
 
             try {
-                // Session Batch Insert
-                insertSessions(batchList);
-                // UUID를 키로 session_id 조회
-                Map<UUID, Long> sessionIdMap = selectSessionIdMap(batchList);
+                // Session Batch Insert + 생성된 session_id 매핑
+                Map<UUID, Long> sessionIdMap = insertSessions(batchList);
                 // 조회한 ID 매핑
                 List<ParticipantBatchData> participants = buildParticipants(batchList, sessionIdMap);
 
@@ -57,7 +58,15 @@ public class SessionBatchRepository {
         }
     }
 
-    private void insertSessions(List<SessionBatchData> sessions) {
+    /**
+     * 세션 batch insert 후 batch 순서대로 반환된 생성 키(session_id)를 매핑
+     * <p>
+     * MySQL은 multi-row insert(rewriteBatchedStatements)의 auto-increment 값을 연속으로 할당하므로
+     * 드라이버가 반환한 키 순서가 batch 순서와 같음. 반환된 키 개수가 batch 크기와 다르면
+     * external_id로 다시 조회.
+     * </p>
+     */
+    private Map<UUID, Long> insertSessions(List<SessionBatchData> sessions) {
         String sql = """
             INSERT INTO sessions (external_id, started_at, created_at, modified_at)
             VALUES (:external_id, :started_at, :created_at, :modified_at)
@@ -73,7 +82,23 @@ public class SessionBatchRepository {
                         .addValue("modified_at", now))
                 .toArray(SqlParameterSource[]::new);
 
-        jdbcTemplate.batchUpdate(sql, batch);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(sql, batch, keyHolder, new String[]{"session_id"});
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+
+        if (keys.size() != sessions.size()) {
+            log.warn("생성 키 개수 불일치, session_id 재조회: expected={}, actual={}", sessions.size(), keys.size());
+            return selectSessionIdMap(sessions);
+        }
+
+        Map<UUID, Long> sessionIdMap = new HashMap<>(sessions.size() * 2);
+        for (int i = 0; i < sessions.size(); i++) {
+            Number key = (Number) keys.get(i).values().iterator().next();
+            sessionIdMap.put(sessions.get(i).externalId(), key.longValue());
+        }
+
+        return sessionIdMap;
     }
 
     private void insertSessionParticipants(List<ParticipantBatchData> participants) {
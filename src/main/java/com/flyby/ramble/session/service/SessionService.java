@@ -6,18 +6,11 @@ import com.flyby.ramble.session.repository.SessionBatchRepository;
 import com.flyby.ramble.session.repository.SessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataAccessException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -32,6 +25,9 @@ public class SessionService {
         return session.getId();
     }
 
+    /**
+     * 세션 + 참가자 일괄 저장 (한 트랜잭션). 매칭 경로에서는 {@link SessionWriteBehind}를 통해 호출
+     */
     public void saveSessions(List<SessionData> list) {
         if (list == null || list.isEmpty()) {
             return;
@@ -40,30 +36,4 @@ public class SessionService {
         sessionBatchRepository.saveSessionsWithParticipants(list);
     }
 
-    // TODO: @Retryable이 동작하지 않을 수 있음. 추후 수정
-
-    @Async
-    @Retryable(
-            retryFor = {DataAccessException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public CompletableFuture<Void> saveSessionsAsync(List<SessionData> list) {
-        if (list == null || list.isEmpty()) {
-            return CompletableFuture.completedFuture(null);
-        }
-
-        sessionBatchRepository.saveSessionsWithParticipants(list);
-        log.debug("세션 저장 완료: {} 건", list.size());
-        return CompletableFuture.completedFuture(null);
-    }
-
-    @Recover
-    public CompletableFuture<Void> recoverSaveSessionsAsync(DataAccessException e, List<SessionData> list) {
-        log.error("세션 저장 최종 실패 (재시도 소진): {} 건", list.size(), e);
-        // TODO: 추후 실패 처리 로직 추가
-        return CompletableFuture.completedFuture(null);
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,354 @@
+package com.flyby.ramble.session.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flyby.ramble.common.properties.SessionProperties;
+import com.flyby.ramble.session.dto.SessionData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션 DB 저장 write-behind
+ * <p>
+ * 매칭 경로는 메모리 큐에 넣고 바로 반환. 플러셔가 batchSize 단위로 묶어 한 트랜잭션으로 저장 (group commit).
+ * 큐가 가득 찼거나 DB 저장에 실패한 세션은 로컬 spill 파일(JSON Lines, append-only, fsync)에 기록하고,
+ * 다음 플러시에서 spill 파일부터 다시 저장 (재시작 시 포함). spill 재저장에 실패하면 DB가 복구되지 않은 것으로 보고
+ * 이번 플러시를 중단 (메모리 큐는 그대로 보관, 넘치면 spill).
+ * </p>
+ * <p>
+ * spill 재저장 중 종료되면 같은 세션을 다시 저장할 수 있으므로, 이미 저장된 세션(external_id 중복)은 건너뜀.
+ * 일시적 DB 장애(연결/트랜잭션 시작 실패, 타임아웃 등)만 재시도하고, 그 외 오류로 저장할 수 없는 세션은
+ * 별도 파일(*.rejected)에 남기고 진행.
+ * </p>
+ * <ul>
+ *     <li>session.writebehind.queue.size     : 저장 대기 세션 수</li>
+ *     <li>session.writebehind.spill.size     : spill 파일 크기 (bytes)</li>
+ *     <li>session.writebehind.flushed        : DB에 저장한 세션 수</li>
+ *     <li>session.writebehind.spilled        : spill 파일에 기록한 세션 수 (큐 초과 + 저장 실패)</li>
+ *     <li>session.writebehind.rejected       : 데이터 오류로 저장하지 못한 세션 수</li>
+ *     <li>session.writebehind.flush.duration : group commit 처리 시간</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SessionWriteBehind {
+    private final SessionService sessionService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    private final BlockingQueue<SessionData> queue;
+    private final Path spillPath;
+    private final Path replayPath;
+    private final Path rejectedPath;
+
+    private final Object spillLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter spilledCounter;
+    private final Counter rejectedCounter;
+
+    public SessionWriteBehind(
+            SessionService sessionService,
+            SessionProperties sessionProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.sessionService = sessionService;
+        this.objectMapper = objectMapper;
+        this.batchSize = sessionProperties.getWriteBehindBatchSize();
+
+        this.queue = new ArrayBlockingQueue<>(sessionProperties.getWriteBehindCapacity());
+        this.spillPath = Path.of(sessionProperties.getSpillPath()).toAbsolutePath();
+        this.replayPath = spillPath.resolveSibling(spillPath.getFileName() + ".replay");
+        this.rejectedPath = spillPath.resolveSibling(spillPath.getFileName() + ".rejected");
+
+        Gauge.builder("session.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("session.writebehind.spill.size", this, SessionWriteBehind::getSpillSize)
+                .description("spill 파일 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.flushTimer = Timer.builder("session.writebehind.flush.duration")
+                .description("group commit 처리 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("session.writebehind.flushed")
+                .description("DB에 저장한 세션 수")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("session.writebehind.spilled")
+                .description("spill 파일에 기록한 세션 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("session.writebehind.rejected")
+                .description("데이터 오류로 저장하지 못한 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 저장 요청. 블로킹 없이 메모리 큐에 넣고, 큐가 가득 차면 spill 파일에 기록
+     */
+    public void submit(Collection<SessionData> sessions) {
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+
+        List<SessionData> overflow = new ArrayList<>();
+
+        for (SessionData session : sessions) {
+            if (!queue.offer(session)) {
+                overflow.add(session);
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            log.warn("세션 저장 큐 초과, spill 파일에 기록: count={}", overflow.size());
+            spill(overflow);
+        }
+    }
+
+    /**
+     * spill 파일 재저장 후 메모리 큐를 batchSize 단위로 저장
+     */
+    @Scheduled(fixedDelayString = "${session.write-behind.flush-interval:200ms}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (!replaySpill()) {
+                return;
+            }
+
+            while (true) {
+                List<SessionData> batch = new ArrayList<>(batchSize);
+
+                if (queue.drainTo(batch, batchSize) == 0) {
+                    return;
+                }
+                if (!commit(batch)) {
+                    spill(batch);
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 남은 세션 저장 (실패하면 spill 파일에 기록하여 재시작 시 저장)
+     */
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+
+        try {
+            List<SessionData> remaining = new ArrayList<>(queue.size());
+            queue.drainTo(remaining);
+
+            for (int i = 0; i < remaining.size(); i += batchSize) {
+                List<SessionData> batch = remaining.subList(i, Math.min(i + batchSize, remaining.size()));
+
+                if (!commit(batch)) {
+                    spill(remaining.subList(i, remaining.size()));
+                    return;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    long getSpillSize() {
+        try {
+            return Files.exists(spillPath) ? Files.size(spillPath) : 0;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /* --- 저장 --- */
+
+    /**
+     * group commit
+     * @return 저장 완료 여부 (false: 일시적 DB 장애로 재시도 필요)
+     */
+    private boolean commit(List<SessionData> batch) {
+        long start = System.nanoTime();
+
+        try {
+            sessionService.saveSessions(batch);
+            flushedCounter.increment(batch.size());
+            return true;
+        } catch (TransientDataAccessException | RecoverableDataAccessException
+                 | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            log.warn("세션 group commit 실패, 다음 플러시에서 재시도: count={}", batch.size(), e);
+            return false;
+        } catch (RuntimeException e) {
+            // 중복(이미 저장된 세션) 또는 데이터 오류 → 한 건씩 저장하여 나머지는 진행
+            return commitEach(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean commitEach(List<SessionData> batch) {
+        List<SessionData> rejected = new ArrayList<>();
+
+        for (SessionData session : batch) {
+            try {
+                sessionService.saveSessions(List.of(session));
+                flushedCounter.increment();
+            } catch (DuplicateKeyException e) {
+                log.debug("이미 저장된 세션: sessionId={}", session.sessionId());
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                log.warn("세션 저장 실패, 다음 플러시에서 재시도: sessionId={}", session.sessionId(), e);
+                return false;
+            } catch (RuntimeException e) {
+                log.error("세션 저장 불가 (데이터 오류): sessionId={}", session.sessionId(), e);
+                rejected.add(session);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            rejectedCounter.increment(rejected.size());
+            append(rejectedPath, rejected);
+        }
+
+        return true;
+    }
+
+    /* --- spill 파일 --- */
+
+    /**
+     * spill 파일을 재저장용 파일로 옮긴 뒤 batchSize 단위로 저장. 실패한 나머지는 spill 파일에 다시 기록
+     * <p>
+     * 재저장용 파일이 이미 있으면 (이전 재저장 중 종료) 그 파일부터 처리.
+     * </p>
+     * @return spill 파일을 모두 저장했으면 true
+     */
+    private boolean replaySpill() {
+        try {
+            synchronized (spillLock) {
+                if (Files.notExists(replayPath)) {
+                    if (Files.notExists(spillPath) || Files.size(spillPath) == 0) {
+                        return true;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            List<SessionData> sessions = readLines(replayPath);
+            log.info("spill 파일 재저장: count={}", sessions.size());
+
+            for (int i = 0; i < sessions.size(); i += batchSize) {
+                List<SessionData> batch = sessions.subList(i, Math.min(i + batchSize, sessions.size()));
+
+                if (!commit(batch)) {
+                    spill(sessions.subList(i, sessions.size()));
+                    Files.delete(replayPath);
+                    return false;
+                }
+            }
+
+            Files.delete(replayPath);
+            return true;
+        } catch (IOException e) {
+            log.error("spill 파일 재저장 실패: path={}", replayPath, e);
+            return false;
+        }
+    }
+
+    private List<SessionData> readLines(Path path) throws IOException {
+        List<SessionData> sessions = new ArrayList<>();
+
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                sessions.add(objectMapper.readValue(line, SessionData.class));
+            } catch (JsonProcessingException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄 등
+                log.error("spill 파일 항목 파싱 실패, 건너뜀: {}", line, e);
+                rejectedCounter.increment();
+            }
+        }
+
+        return sessions;
+    }
+
+    private void spill(List<SessionData> sessions) {
+        if (append(spillPath, sessions)) {
+            spilledCounter.increment(sessions.size());
+        }
+    }
+
+    /**
+     * JSON Lines로 추가 기록 후 fsync
+     */
+    private boolean append(Path path, List<SessionData> sessions) {
+        synchronized (spillLock) {
+            try {
+                StringBuilder lines = new StringBuilder();
+                for (SessionData session : sessions) {
+                    lines.append(objectMapper.writeValueAsString(session)).append('\n');
+                }
+
+                Files.createDirectories(path.getParent());
+
+                try (FileChannel channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+
+                return true;
+            } catch (IOException e) {
+                log.error("세션 파일 기록 실패 (세션 유실): path={}, sessionIds={}", path,
+                        sessions.stream().map(SessionData::sessionId).toList(), e);
+                return false;
+            }
+        }
+    }
+
+}
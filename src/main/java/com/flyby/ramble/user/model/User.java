@@ -3,6 +3,7 @@ package com.flyby.ramble.user.model;
 import com.flyby.ramble.auth.model.RefreshToken;
 import com.flyby.ramble.common.model.BaseEntity;
 import com.flyby.ramble.common.model.OAuthProvider;
+import com.flyby.ramble.common.util.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -76,7 +77,7 @@ public class User extends BaseEntity {
         this.gender = gender;
         this.birthDate = birthDate;
 
-        this.externalId = UUID.randomUUID();
+        this.externalId = UuidV7.generate();
         this.role = Role.ROLE_USER;
         this.status = Status.ACTIVE;
     }
@@ -0,0 +1,368 @@
+package com.flyby.ramble.common.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flyby.ramble.common.dto.RawJson;
+import com.flyby.ramble.common.properties.WebSocketProperties;
+import com.flyby.ramble.matching.RedisTestBase;
+import com.flyby.ramble.matching.constants.MatchingConstants;
+import com.flyby.ramble.matching.dto.SignalMessageDTO;
+import com.flyby.ramble.matching.model.SignalType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBucket;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RedisUserMessageBroker 테스트 (실제 Redis, 노드 2개)")
+class RedisUserMessageBrokerTest extends RedisTestBase {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node("node-a");
+        nodeB = new Node("node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("같은 노드 사용자 → 발행 없이 바로 전달")
+    void sendToUser_local_deliversDirectly() {
+        // given
+        nodeA.connect("user-a");
+        Map<String, String> payload = Map.of("status", "SUCCESS");
+
+        // when
+        nodeA.broker.sendToUser("user-a", MatchingConstants.SUBSCRIPTION_MATCHING, payload);
+
+        // then
+        verify(nodeA.messagingTemplate).convertAndSendToUser("user-a", MatchingConstants.SUBSCRIPTION_MATCHING, payload);
+        assertThat(nodeA.count("local")).isEqualTo(1);
+        assertThat(nodeA.count("published")).isZero();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("다른 노드 사용자 → 소켓을 가진 노드 채널에만 발행")
+    void sendToUser_remote_deliveredByOwningNode() throws Exception {
+        // given - user-b는 노드 B에 연결
+        nodeB.connect("user-b");
+        SignalMessageDTO message = SignalMessageDTO.builder()
+                .senderId("user-a")
+                .receiverId("user-b")
+                .type(SignalType.OFFER)
+                .data(RawJson.of("{\"sdp\":\"v=0\"}"))
+                .build();
+
+        // when - 노드 A에서 전송
+        nodeA.broker.sendToUser("user-b", MatchingConstants.SUBSCRIPTION_SIGNALING, message);
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(nodeB.messagingTemplate, timeout(2000))
+                .convertAndSendToUser(eq("user-b"), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), captor.capture());
+
+        // 수신 노드는 페이로드를 해석하지 않고 직렬화된 그대로 전달
+        RawJson delivered = (RawJson) captor.getValue();
+        assertThat(delivered.json()).isEqualTo(objectMapper.writeValueAsString(message));
+        assertThat(delivered.json()).contains("\"data\":{\"sdp\":\"v=0\"}");
+
+        verify(nodeA.messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(nodeA.count("published")).isEqualTo(1));
+        assertThat(nodeB.count("delivered")).isEqualTo(1);
+        assertThat(nodeA.count("ignored")).isZero(); // 수신자가 없는 노드에는 발행하지 않음
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("어느 노드에도 없는 사용자 → 발행하지 않음")
+    void sendToUser_offline_notPublished() {
+        // when
+        nodeA.broker.sendToUser("nobody", MatchingConstants.SUBSCRIPTION_MATCHING, Map.of("status", "LEAVE"));
+
+        // then
+        verify(nodeB.messagingTemplate, after(300).never()).convertAndSendToUser(anyString(), anyString(), any());
+        verify(nodeA.messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        assertThat(nodeA.count("offline")).isEqualTo(1);
+        assertThat(nodeA.count("published")).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("위치 조회 후 연결 종료 → 받은 노드에서 무시")
+    void onMessage_disconnectedMeanwhile_ignored() {
+        // given - 위치는 노드 B로 남아 있으나 소켓은 이미 종료
+        nodeB.location.register("user-b");
+
+        // when
+        nodeA.broker.sendToUser("user-b", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "ANSWER"));
+
+        // then
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(nodeB.count("ignored")).isEqualTo(1));
+        verify(nodeB.messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("unregister: 다른 노드로 재연결 후 늦게 온 이전 노드 DISCONNECT는 위치를 지우지 않음")
+    void unregister_afterReconnectToOtherNode_keepsLocation() {
+        // given - 노드 A 연결 후 노드 B로 재연결
+        nodeA.location.register("user-x");
+        nodeB.location.register("user-x");
+
+        // when - 노드 A의 DISCONNECT
+        nodeA.location.unregister("user-x", "session-a");
+
+        // then
+        assertThat(nodeA.location.locate("user-x")).isEqualTo("node-b");
+
+        // when - 노드 B의 DISCONNECT
+        nodeB.location.unregister("user-x", "session-b");
+
+        // then - 노드 A의 위치 캐시는 무효화 알림 후 비워짐
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(nodeA.location.locate("user-x")).isNull());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("unregister: 같은 노드에 다른 세션이 남아 있으면 위치 유지")
+    void unregister_otherSessionOnSameNode_keepsLocation() {
+        // given - 같은 사용자의 세션 2개 중 session-1 종료
+        // SessionDisconnectEvent 처리로 레지스트리에서 session-1이 먼저 빠진 뒤 DISCONNECT 전달
+        nodeA.location.register("user-y");
+        givenSessions(nodeA, "user-y", "session-2");
+
+        // when
+        nodeA.location.unregister("user-y", "session-1");
+
+        // then
+        assertThat(nodeA.location.locate("user-y")).isEqualTo("node-a");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("unregister: 종료 세션만 남아 있거나 세션이 없으면 위치 제거")
+    void unregister_lastSession_removesLocation() {
+        // given - 종료 세션이 아직 레지스트리에 남아 있는 경우
+        nodeA.location.register("user-z");
+        givenSessions(nodeA, "user-z", "session-1");
+
+        // when
+        nodeA.location.unregister("user-z", "session-1");
+
+        // then
+        assertThat(nodeA.location.locate("user-z")).isNull();
+
+        // given - 종료 세션이 이미 레지스트리에서 빠진 경우
+        nodeA.location.register("user-z");
+        given(nodeA.userRegistry.getUser("user-z")).willReturn(null);
+
+        // when
+        nodeA.location.unregister("user-z", "session-1");
+
+        // then
+        assertThat(nodeA.location.locate("user-z")).isNull();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("refresh: 이 노드 위치는 TTL 갱신, 없으면 기록, 다른 노드 위치는 유지")
+    void refresh_extendsOwnLocationOnly() {
+        // given - 만료 직전의 이 노드 위치
+        RBucket<String> bucket = redissonClient.getBucket(UserLocationRegistry.LOCATION + ":user-r", StringCodec.INSTANCE);
+        bucket.set("node-a", Duration.ofSeconds(5));
+
+        // when
+        nodeA.location.refresh("user-r");
+
+        // then
+        assertThat(bucket.remainTimeToLive()).isGreaterThan(Duration.ofHours(11).toMillis());
+
+        // given - 다른 노드로 재연결
+        nodeB.location.register("user-r");
+        bucket.expire(Duration.ofSeconds(5));
+
+        // when
+        nodeA.location.refresh("user-r");
+
+        // then
+        assertThat(bucket.get()).isEqualTo("node-b");
+        assertThat(bucket.remainTimeToLive()).isLessThanOrEqualTo(Duration.ofSeconds(5).toMillis());
+
+        // given - 위치가 만료됨
+        bucket.delete();
+
+        // when
+        nodeA.location.refresh("user-r");
+
+        // then
+        assertThat(bucket.get()).isEqualTo("node-a");
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("locate: 다른 노드 사용자 위치는 캐시 → 메시지마다 Redis 조회하지 않음")
+    void sendToUser_remote_usesCachedLocation() {
+        // given - 첫 전송으로 위치 캐시
+        nodeB.connect("user-c");
+        nodeA.broker.sendToUser("user-c", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "OFFER"));
+
+        // Redis 위치를 알림 없이 지워도 캐시로 전달
+        redissonClient.getBucket(UserLocationRegistry.LOCATION + ":user-c", StringCodec.INSTANCE).delete();
+
+        // when
+        nodeA.broker.sendToUser("user-c", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "CANDIDATE"));
+
+        // then
+        verify(nodeB.messagingTemplate, timeout(2000).times(2))
+                .convertAndSendToUser(eq("user-c"), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), any());
+        assertThat(nodeA.count("offline")).isZero();
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("locate: 다른 노드로 재연결 → 위치 캐시 무효화 후 새 노드로 전달")
+    void sendToUser_locationChanged_invalidatesCache() {
+        // given - 노드 B 위치 캐시
+        nodeB.connect("user-m");
+        assertThat(nodeA.location.locate("user-m")).isEqualTo("node-b");
+
+        Node nodeC = new Node("node-c");
+        try {
+            // when - 노드 C로 재연결
+            nodeC.connect("user-m");
+
+            // then
+            await().atMost(Duration.ofSeconds(2))
+                    .untilAsserted(() -> assertThat(nodeA.location.locate("user-m")).isEqualTo("node-c"));
+
+            nodeA.broker.sendToUser("user-m", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "OFFER"));
+            verify(nodeC.messagingTemplate, timeout(2000))
+                    .convertAndSendToUser(eq("user-m"), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), any());
+        } finally {
+            nodeC.close();
+        }
+    }
+
+    @Test
+    @Order(11)
+    @DisplayName("locate: 연결 종료 → 위치 캐시 무효화, 이후 전송은 offline")
+    void sendToUser_disconnected_invalidatesCache() {
+        // given - 노드 B 위치 캐시
+        nodeB.connect("user-d");
+        assertThat(nodeA.location.locate("user-d")).isEqualTo("node-b");
+
+        // when - 노드 B에서 마지막 세션 종료
+        given(nodeB.userRegistry.getUser("user-d")).willReturn(null);
+        nodeB.location.unregister("user-d", "session-1");
+
+        // then
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(nodeA.location.locate("user-d")).isNull());
+
+        nodeA.broker.sendToUser("user-d", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "ANSWER"));
+        assertThat(nodeA.count("offline")).isEqualTo(1);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("sendToUser: 수신 노드가 구독하지 않음 (종료된 노드) → 이 노드의 위치 캐시 제거")
+    void sendToUser_noSubscriber_evictsCachedLocation() {
+        // given - 종료된 노드 위치가 남아 있음
+        RBucket<String> bucket = redissonClient.getBucket(UserLocationRegistry.LOCATION + ":user-g", StringCodec.INSTANCE);
+        bucket.set("node-gone");
+        assertThat(nodeA.location.locate("user-g")).isEqualTo("node-gone");
+
+        // when
+        nodeA.broker.sendToUser("user-g", MatchingConstants.SUBSCRIPTION_SIGNALING, Map.of("type", "OFFER"));
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> assertThat(nodeA.count("published")).isEqualTo(1));
+
+        // then - 캐시가 지워져 Redis 값(만료/삭제)을 다시 조회
+        bucket.delete();
+        assertThat(nodeA.location.locate("user-g")).isNull();
+    }
+
+    private void givenSessions(Node node, String userId, String... sessionIds) {
+        SimpUser user = mock(SimpUser.class);
+        Set<SimpSession> sessions = new HashSet<>();
+        for (String sessionId : sessionIds) {
+            SimpSession session = mock(SimpSession.class);
+            given(session.getId()).willReturn(sessionId);
+            sessions.add(session);
+        }
+        given(user.getSessions()).willReturn(sessions);
+        given(node.userRegistry.getUser(userId)).willReturn(user);
+    }
+
+    /**
+     * 같은 Redis를 사용하는 애플리케이션 노드
+     */
+    private class Node {
+        final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        final SimpUserRegistry userRegistry = mock(SimpUserRegistry.class);
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final UserLocationRegistry location;
+        final RedisUserMessageBroker broker;
+
+        Node(String nodeId) {
+            WebSocketProperties properties = new WebSocketProperties();
+            properties.getBroker().setNodeId(nodeId);
+
+            location = new UserLocationRegistry(redissonClient, userRegistry, properties);
+            location.subscribe();
+            broker = new RedisUserMessageBroker(redissonClient, messagingTemplate, location, objectMapper, meterRegistry);
+            broker.subscribe();
+        }
+
+        void close() {
+            broker.unsubscribe();
+            location.unsubscribe();
+        }
+
+        void connect(String userId) {
+            given(userRegistry.getUser(userId)).willReturn(mock(SimpUser.class));
+            location.register(userId);
+        }
+
+        double count(String result) {
+            return meterRegistry.get("websocket.broker.messages").tag("result", result).counter().count();
+        }
+    }
+
+}
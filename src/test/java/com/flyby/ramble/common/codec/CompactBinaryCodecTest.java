@@ -0,0 +1,117 @@
+package com.flyby.ramble.common.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.session.dto.ParticipantData;
+import com.flyby.ramble.session.dto.SessionData;
+import com.flyby.ramble.user.model.Gender;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactBinaryCodec 테스트")
+class CompactBinaryCodecTest {
+
+    private final JsonJacksonCodec json = createJsonCodec();
+    private final CompactBinaryCodec binary = new CompactBinaryCodec(json, true);
+
+    @Test
+    @DisplayName("MatchingProfile: 바이너리 왕복 + JSON보다 작음")
+    void profile_roundTrip() throws IOException {
+        MatchingProfile profile = new MatchingProfile(1L, UUID.randomUUID().toString(), Region.KR, Gender.MALE, Language.KO, 1234L);
+
+        byte[] encoded = encode(binary, profile);
+        MatchingProfile decoded = (MatchingProfile) decode(binary, encoded);
+
+        assertThat(encoded[0]).isEqualTo(CompactBinaryCodec.MAGIC);
+        assertThat(encoded.length).isLessThan(encode(json, profile).length);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(profile);
+    }
+
+    @Test
+    @DisplayName("SessionData: 바이너리 왕복 (null 필드 포함)")
+    void session_roundTrip() throws IOException {
+        SessionData session = new SessionData(LocalDateTime.now(), List.of(
+                new ParticipantData(1L, "user-1", Region.KR, Gender.MALE, Language.KO),
+                new ParticipantData(null, "user-2", null, Gender.FEMALE, Language.EN)
+        ));
+
+        SessionData decoded = (SessionData) decode(binary, encode(binary, session));
+
+        assertThat(decoded).isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("마이그레이션: 기존 JSON 값 읽기, 바이너리 쓰기 비활성화 시 JSON으로 기록")
+    void json_readAndWriteDisabled() throws IOException {
+        SessionData session = new SessionData(LocalDateTime.now(), List.of(
+                new ParticipantData(1L, "user-1", Region.KR, Gender.MALE, Language.KO)
+        ));
+
+        // 기존 JSON 값
+        assertThat(decode(binary, encode(json, session))).isEqualTo(session);
+        assertThat(decode(binary, encode(json, "match:queue:MALE:KO:KR"))).isEqualTo("match:queue:MALE:KO:KR");
+
+        // 롤링 배포 중 (쓰기는 JSON, 읽기는 두 형식 모두)
+        CompactBinaryCodec readOnly = new CompactBinaryCodec(json, false);
+        byte[] encoded = encode(readOnly, session);
+
+        assertThat(encoded[0]).isEqualTo((byte) '{');
+        assertThat(decode(json, encoded)).isEqualTo(session);
+        assertThat(decode(readOnly, encode(binary, session))).isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전 → IOException")
+    void unknownVersion_throws() throws IOException {
+        byte[] encoded = encode(binary, new MatchingProfile(1L, "user-1", Region.KR, Gender.MALE, Language.KO, 0L));
+        encoded[2] = CompactBinaryCodec.VERSION + 1;
+
+        assertThatThrownBy(() -> decode(binary, encoded)).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+
+        try {
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static Object decode(Codec codec, byte[] bytes) throws IOException {
+        ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+
+        try {
+            return codec.getValueDecoder().decode(buf, new State());
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static JsonJacksonCodec createJsonCodec() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new JsonJacksonCodec(objectMapper);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.flyby.ramble.common.config;
+
+import com.flyby.ramble.common.properties.AsyncProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncConfig 제한 executor 테스트")
+class AsyncConfigTest {
+
+    private MeterRegistry meterRegistry;
+    private ThreadPoolTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS: 스레드와 큐가 가득 차면 제출한 스레드에서 실행, rejection 기록")
+    void callerRuns_whenSaturated() {
+        // given - 스레드 1개 + 큐 1개를 모두 점유
+        executor = createExecutor(AsyncProperties.Rejection.CALLER_RUNS);
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        // when
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DISCARD: 스레드와 큐가 가득 차면 버림, rejection 기록")
+    void discard_whenSaturated() {
+        // given
+        executor = createExecutor(AsyncProperties.Rejection.DISCARD);
+        executor.execute(this::block);
+        executor.execute(this::block);
+
+        // when
+        AtomicInteger ran = new AtomicInteger();
+        executor.execute(ran::incrementAndGet);
+        executor.execute(ran::incrementAndGet);
+
+        // then
+        assertThat(ran.get()).isZero();
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        assertThat(rejectedCount()).isEqualTo(2);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(AsyncProperties.Rejection rejection) {
+        AsyncProperties.Pool pool = new AsyncProperties.Pool();
+        pool.setCoreSize(1);
+        pool.setMaxSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejection(rejection);
+
+        ThreadPoolTaskExecutor created = AsyncConfig.boundedExecutor("test", "test-", pool, meterRegistry);
+        created.initialize();
+        return created;
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("executor.rejected").tag("name", "test").counter().count();
+    }
+
+    private void block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.flyby.ramble.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flyby.ramble.matching.dto.SignalMessageDTO;
+import com.flyby.ramble.matching.model.SignalType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RawJson 테스트")
+class RawJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("역직렬화: 페이로드를 트리로 만들지 않고 JSON 문자열로 보관")
+    void deserialize_keepsPayloadAsJson() throws Exception {
+        // given
+        String json = """
+                {"receiverId":"user-2","type":"CANDIDATE",
+                 "data":{"candidate":"candidate:1 1 UDP 2122 10.0.0.1 5000 typ host","sdpMid":"0","sdpMLineIndex":0}}
+                """;
+
+        // when
+        SignalMessageDTO message = objectMapper.readValue(json, SignalMessageDTO.class);
+
+        // then
+        assertThat(message.getType()).isEqualTo(SignalType.CANDIDATE);
+        assertThat(message.getReceiverId()).isEqualTo("user-2");
+        assertThat(message.getData().json())
+                .isEqualTo("{\"candidate\":\"candidate:1 1 UDP 2122 10.0.0.1 5000 typ host\",\"sdpMid\":\"0\",\"sdpMLineIndex\":0}");
+    }
+
+    @Test
+    @DisplayName("직렬화: 보관한 JSON을 그대로 기록")
+    void serialize_writesRawJson() throws Exception {
+        // given
+        String json = "{\"senderId\":\"user-1\",\"receiverId\":\"user-2\",\"type\":\"OFFER\",\"data\":{\"type\":\"offer\",\"sdp\":\"v=0\\r\\n\"}}";
+        SignalMessageDTO message = objectMapper.readValue(json, SignalMessageDTO.class);
+
+        // when
+        String serialized = objectMapper.writeValueAsString(message);
+
+        // then
+        assertThat(serialized).isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("스칼라/배열/null 페이로드")
+    void deserialize_nonObjectPayloads() throws Exception {
+        assertThat(objectMapper.readValue("{\"data\":[1,\"a\",null]}", SignalMessageDTO.class).getData().json())
+                .isEqualTo("[1,\"a\",null]");
+        assertThat(objectMapper.readValue("{\"data\":\"text\"}", SignalMessageDTO.class).getData().json())
+                .isEqualTo("\"text\"");
+        assertThat(objectMapper.readValue("{\"data\":null}", SignalMessageDTO.class).getData())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON 페이로드 → 역직렬화 실패")
+    void deserialize_malformed_throws() {
+        assertThatThrownBy(() -> objectMapper.readValue("{\"data\":{\"sdp\":}}", SignalMessageDTO.class))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+}
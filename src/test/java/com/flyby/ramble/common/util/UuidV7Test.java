@@ -0,0 +1,53 @@
+package com.flyby.ramble.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 테스트")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("generate: 버전 7, RFC 9562 variant, 생성 시각 기록")
+    void generate_versionVariantAndTimestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7.generate();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("generate: 같은 ms 안에서도 BINARY(16) 바이트 순서로 단조 증가")
+    void generate_monotonicInBinaryOrder() {
+        // when
+        List<byte[]> ids = IntStream.range(0, 10000)
+                .mapToObj(i -> UuidUtil.uuidToBytes(UuidV7.generate()))
+                .toList();
+
+        // then - MySQL BINARY 비교(부호 없는 바이트 순)와 같은 순서
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(ids.get(i - 1), ids.get(i))).isNegative();
+        }
+    }
+
+    @Test
+    @DisplayName("timestampOf: UUIDv4 → 예외")
+    void timestampOf_nonV7_throws() {
+        assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,212 @@
+package com.flyby.ramble.logging.service;
+
+import com.flyby.ramble.common.properties.SessionProperties;
+import com.flyby.ramble.logging.dto.CreateSessionRecordCommandDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("SessionRecordBuffer 테스트")
+@ExtendWith(MockitoExtension.class)
+class SessionRecordBufferTest {
+
+    @Mock
+    private SessionRecordService sessionRecordService;
+
+    private MeterRegistry meterRegistry;
+    private SessionRecordBuffer recordBuffer;
+
+    @BeforeEach
+    void setUp() {
+        SessionProperties sessionProperties = new SessionProperties();
+        sessionProperties.getRecord().setCapacity(10);
+        sessionProperties.getRecord().setBatchSize(4);
+
+        meterRegistry = new SimpleMeterRegistry();
+        recordBuffer = new SessionRecordBuffer(sessionRecordService, sessionProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("add: batchSize 미만 → 저장하지 않고 버퍼에 보관")
+    void add_belowBatchSize_buffers() {
+        // when
+        createRecords(3).forEach(recordBuffer::add);
+
+        // then
+        then(sessionRecordService).should(never()).saveSessionRecords(anyList());
+        assertThat(recordBuffer.getBufferSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("add: batchSize 도달 → 즉시 batch 저장")
+    void add_reachesBatchSize_flushes() {
+        // given
+        List<CreateSessionRecordCommandDTO> records = createRecords(4);
+
+        // when
+        records.forEach(recordBuffer::add);
+
+        // then
+        then(sessionRecordService).should().saveSessionRecords(records);
+        assertThat(recordBuffer.getBufferSize()).isZero();
+        assertThat(meterRegistry.get("session.record.flushed").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("flush: 주기 저장은 batchSize 단위")
+    void flush_commitsInBatches() {
+        // given - 저장 실패로 버퍼에 쌓인 상태
+        willThrow(new DataAccessResourceFailureException("down")).given(sessionRecordService).saveSessionRecords(anyList());
+        createRecords(10).forEach(recordBuffer::add);
+        assertThat(recordBuffer.getBufferSize()).isEqualTo(10);
+
+        // when - DB 복구
+        List<Integer> sizes = new ArrayList<>();
+        willAnswer(invocation -> sizes.add(invocation.<List<?>>getArgument(0).size()))
+                .given(sessionRecordService).saveSessionRecords(anyList());
+        recordBuffer.flush();
+
+        // then
+        assertThat(sizes).containsExactly(4, 4, 2);
+        assertThat(recordBuffer.getBufferSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: DB 장애 → batch를 버퍼에 되돌리고 다음 플러시에서 재시도")
+    void flush_databaseDown_requeues() {
+        // given
+        List<CreateSessionRecordCommandDTO> records = createRecords(3);
+        records.forEach(recordBuffer::add);
+        willThrow(new DataAccessResourceFailureException("down")).given(sessionRecordService).saveSessionRecords(anyList());
+
+        // when
+        recordBuffer.flush();
+
+        // then
+        assertThat(recordBuffer.getBufferSize()).isEqualTo(3);
+
+        // when - DB 복구
+        List<CreateSessionRecordCommandDTO> saved = new ArrayList<>();
+        willAnswer(invocation -> saved.addAll(invocation.getArgument(0)))
+                .given(sessionRecordService).saveSessionRecords(anyList());
+        recordBuffer.flush();
+
+        // then
+        assertThat(saved).containsExactlyElementsOf(records);
+        assertThat(recordBuffer.getBufferSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 트랜잭션 시작 실패 (DB 연결 불가) → batch를 버퍼에 되돌림")
+    void flush_cannotCreateTransaction_requeues() {
+        // given
+        List<CreateSessionRecordCommandDTO> records = createRecords(3);
+        records.forEach(recordBuffer::add);
+        willThrow(new CannotCreateTransactionException("connection refused"))
+                .given(sessionRecordService).saveSessionRecords(anyList());
+
+        // when
+        recordBuffer.flush();
+
+        // then
+        assertThat(recordBuffer.getBufferSize()).isEqualTo(3);
+
+        // when - DB 복구
+        List<CreateSessionRecordCommandDTO> saved = new ArrayList<>();
+        willAnswer(invocation -> saved.addAll(invocation.getArgument(0)))
+                .given(sessionRecordService).saveSessionRecords(anyList());
+        recordBuffer.flush();
+
+        // then
+        assertThat(saved).containsExactlyElementsOf(records);
+    }
+
+    @Test
+    @DisplayName("flush: 재시도할 수 없는 오류 → 해당 레코드만 버리고 나머지는 저장")
+    void flush_nonTransientFailure_dropsOnlyBadRecord() {
+        // given - 두 번째 레코드는 데이터 오류
+        List<CreateSessionRecordCommandDTO> records = createRecords(3);
+        records.forEach(recordBuffer::add);
+        List<CreateSessionRecordCommandDTO> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<CreateSessionRecordCommandDTO> batch = invocation.getArgument(0);
+            if (batch.contains(records.get(1))) {
+                throw new IllegalStateException("bad record");
+            }
+            return saved.addAll(batch);
+        }).given(sessionRecordService).saveSessionRecords(anyList());
+
+        // when
+        recordBuffer.flush();
+
+        // then - 버퍼에 되돌리지 않음
+        assertThat(saved).containsExactly(records.get(0), records.get(2));
+        assertThat(recordBuffer.getBufferSize()).isZero();
+        assertThat(meterRegistry.get("session.record.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("add: 버퍼 초과 → 유실 카운트")
+    void add_overCapacity_dropped() {
+        // given
+        willThrow(new DataAccessResourceFailureException("down")).given(sessionRecordService).saveSessionRecords(anyList());
+
+        // when
+        createRecords(12).forEach(recordBuffer::add);
+
+        // then
+        assertThat(recordBuffer.getBufferSize()).isEqualTo(10);
+        assertThat(meterRegistry.get("session.record.dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("drain: 종료 시 남은 레코드 모두 저장")
+    void drain_flushesRemaining() {
+        // given
+        createRecords(3).forEach(recordBuffer::add);
+
+        // when
+        recordBuffer.drain();
+
+        // then
+        ArgumentCaptor<List<CreateSessionRecordCommandDTO>> captor = ArgumentCaptor.captor();
+        then(sessionRecordService).should(times(1)).saveSessionRecords(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(recordBuffer.getBufferSize()).isZero();
+    }
+
+    private List<CreateSessionRecordCommandDTO> createRecords(int count) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> CreateSessionRecordCommandDTO.builder()
+                        .sessionUuid(UUID.randomUUID())
+                        .startedAt(now.minusMinutes(i + 1))
+                        .endedAt(now)
+                        .build())
+                .toList();
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.flyby.ramble.matching.engine;
+
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.QueueTier;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.matching.util.QueueCode;
+import com.flyby.ramble.user.model.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MatchingEngine 테스트")
+class MatchingEngineTest {
+
+    private static final int MALE_KO_KR   = QueueCode.of(Gender.MALE, Language.KO, Region.KR);
+    private static final int MALE_KO_US   = QueueCode.of(Gender.MALE, Language.KO, Region.US);
+    private static final int FEMALE_EN_US = QueueCode.of(Gender.FEMALE, Language.EN, Region.US);
+
+    @Test
+    @DisplayName("match: 같은 코드 → 1단계에서 대기 순서대로 짝지음")
+    void match_sameCode_pairsInOrder() {
+        MatchingEngine.Result result = MatchingEngine.match(new int[]{MALE_KO_KR, MALE_KO_KR, MALE_KO_KR, MALE_KO_KR});
+
+        assertThat(result.pairCount()).isEqualTo(2);
+        assertThat(result.pairs()).containsExactly(0, 1, 2, 3);
+        assertThat(result.unmatched()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("match: 같은 성별+언어, 다른 지역 → 2단계 매칭")
+    void match_sameGenderLanguage_matchesInRound2() {
+        int[] codes = IntStream.range(0, 8)
+                .map(i -> i % 2 == 0 ? MALE_KO_KR : MALE_KO_US)
+                .toArray();
+        codes = Arrays.copyOf(codes, 9);
+        codes[8] = MALE_KO_US;
+
+        // KR 4명(짝수) / US 5명(홀수) → R1 4쌍, US 1명 남음
+        MatchingEngine.Result result = MatchingEngine.match(codes);
+
+        assertThat(result.pairCount()).isEqualTo(4);
+        assertThat(result.unmatched()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("match: 남은 인원 6명 이하 → 병합 그룹에서 매칭")
+    void match_fewRemaining_mergedGroup() {
+        MatchingEngine.Result result = MatchingEngine.match(new int[]{MALE_KO_KR, FEMALE_EN_US});
+
+        assertThat(result.pairCount()).isEqualTo(1);
+        assertThat(result.unmatched()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("match: 완화 대기열 후보 → 같은 단계로 완화된 일반 후보와 매칭")
+    void match_relaxedCandidate_pairsWithSameTier() {
+        // 완화 후보(MALE:KO:ANY) + MALE:KO:US + 서로 다른 언어의 FEMALE 6명 → 2단계에서 병합 없이 완화 후보끼리 매칭
+        Language[] langs = {Language.EN, Language.FR, Language.ES, Language.DE, Language.PT, Language.AR};
+        int[] codes = new int[2 + langs.length];
+        codes[0] = QueueTier.LANGUAGE.apply(MALE_KO_KR);
+        codes[1] = MALE_KO_US;
+        for (int i = 0; i < langs.length; i++) {
+            codes[2 + i] = QueueCode.of(Gender.FEMALE, langs[i], Region.values()[i]);
+        }
+
+        MatchingEngine.Result result = MatchingEngine.match(codes);
+
+        assertThat(result.pairCount()).isGreaterThanOrEqualTo(1);
+        assertThat(result.first(0)).isZero();
+        assertThat(result.second(0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("match: 대량 무작위 입력 → 모든 후보가 정확히 한 번씩 매칭 또는 미매칭")
+    void match_largeInput_everyCandidateAccountedOnce() {
+        Random random = new Random(42);
+        Gender[] genders = Gender.values();
+        Language[] languages = Language.values();
+        Region[] regions = Region.values();
+
+        int[] codes = IntStream.range(0, 20_000)
+                .map(i -> QueueCode.of(
+                        genders[random.nextInt(genders.length)],
+                        languages[random.nextInt(languages.length)],
+                        regions[random.nextInt(regions.length)]))
+                .toArray();
+
+        MatchingEngine.Result result = MatchingEngine.match(codes);
+
+        int[] seen = new int[codes.length];
+        for (int i = 0; i < result.pairCount() * 2; i++) seen[result.pairs()[i]]++;
+        for (int idx : result.unmatched()) seen[idx]++;
+
+        assertThat(seen).containsOnly(1);
+        assertThat(result.unmatched().length).isLessThanOrEqualTo(genders.length);
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.flyby.ramble.matching.listener;
+
+import com.flyby.ramble.common.broker.UserLocationRegistry;
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.service.MatchingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("DisconnectCleanupListener 테스트")
+@ExtendWith(MockitoExtension.class)
+class DisconnectCleanupListenerTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private MatchingService matchingService;
+
+    @Mock
+    private SimpUserRegistry userRegistry;
+
+    @Mock
+    private ObjectProvider<UserLocationRegistry> userLocationRegistry;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private MatchingProperties matchingProperties;
+    private MeterRegistry meterRegistry;
+    private DisconnectCleanupListener listener;
+
+    @BeforeEach
+    void setUp() {
+        matchingProperties = new MatchingProperties();
+        matchingProperties.getDisconnect().setGrace(Duration.ofSeconds(3));
+        meterRegistry = new SimpleMeterRegistry();
+
+        listener = new DisconnectCleanupListener(matchingService, matchingProperties, userRegistry,
+                userLocationRegistry, taskScheduler, new SyncTaskExecutor(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("연결 종료 → grace 이후 연결 종료 시각으로 정리, 대기열 제거 시 유령 매칭 방지 기록")
+    void disconnect_afterGrace_cleansUp() {
+        // given
+        given(matchingService.disconnectUser(eq(USER_ID), anyLong())).willReturn(true);
+        SessionDisconnectEvent event = disconnectEvent();
+
+        // when
+        listener.handleDisconnect(event);
+
+        // then - grace 이후로 예약
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        List<Runnable> tasks = captureScheduled(1, at);
+        assertThat(at.getValue()).isEqualTo(Instant.ofEpochMilli(event.getTimestamp()).plusSeconds(3));
+
+        // when - grace 경과
+        tasks.get(0).run();
+
+        // then
+        then(matchingService).should().disconnectUser(USER_ID, event.getTimestamp());
+        assertThat(meterRegistry.get("matching.ghost.avoided").counter().count()).isEqualTo(1);
+        assertThat(listener.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("grace 안에 재연결 → 정리하지 않음")
+    void reconnectWithinGrace_skipsCleanup() {
+        // given
+        listener.handleDisconnect(disconnectEvent());
+        List<Runnable> tasks = captureScheduled(1, ArgumentCaptor.forClass(Instant.class));
+
+        // when
+        listener.handleConnected(new SessionConnectedEvent(this, emptyMessage(), principal()));
+        tasks.get(0).run();
+
+        // then
+        then(matchingService).should(never()).disconnectUser(any(), anyLong());
+        assertThat(meterRegistry.get("matching.disconnect.reconnected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재연결 폭주 → 마지막 연결 종료만 정리")
+    void reconnectStorm_debouncedToLastDisconnect() throws InterruptedException {
+        // given
+        SessionDisconnectEvent first = disconnectEvent();
+        Thread.sleep(2);
+        SessionDisconnectEvent last = disconnectEvent();
+
+        listener.handleDisconnect(first);
+        listener.handleDisconnect(last);
+        List<Runnable> tasks = captureScheduled(2, ArgumentCaptor.forClass(Instant.class));
+
+        // when
+        tasks.forEach(Runnable::run);
+
+        // then
+        then(matchingService).should(times(1)).disconnectUser(USER_ID, last.getTimestamp());
+        then(matchingService).should(never()).disconnectUser(USER_ID, first.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결되어 있음 → 정리하지 않음")
+    void connectedOnOtherNode_skipsCleanup() {
+        // given
+        UserLocationRegistry registry = mock(UserLocationRegistry.class);
+        given(registry.locate(USER_ID)).willReturn("node-b");
+        given(userLocationRegistry.getIfAvailable()).willReturn(registry);
+
+        listener.handleDisconnect(disconnectEvent());
+        List<Runnable> tasks = captureScheduled(1, ArgumentCaptor.forClass(Instant.class));
+
+        // when
+        tasks.get(0).run();
+
+        // then
+        then(matchingService).should(never()).disconnectUser(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 노드에 다른 연결이 남아 있음 → 정리하지 않음")
+    void otherSessionOnThisNode_skipsCleanup() {
+        // given
+        given(userRegistry.getUser(USER_ID)).willReturn(mock(SimpUser.class));
+
+        listener.handleDisconnect(disconnectEvent());
+        List<Runnable> tasks = captureScheduled(1, ArgumentCaptor.forClass(Instant.class));
+
+        // when
+        tasks.get(0).run();
+
+        // then
+        then(matchingService).should(never()).disconnectUser(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("비활성화 → 예약하지 않음")
+    void disabled_doesNothing() {
+        // given
+        matchingProperties.getDisconnect().setCleanupEnabled(false);
+
+        // when
+        listener.handleDisconnect(disconnectEvent());
+
+        // then
+        then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private List<Runnable> captureScheduled(int count, ArgumentCaptor<Instant> at) {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should(times(count)).schedule(tasks.capture(), at.capture());
+        return tasks.getAllValues();
+    }
+
+    private SessionDisconnectEvent disconnectEvent() {
+        return new SessionDisconnectEvent(this, emptyMessage(), "session-1", CloseStatus.GOING_AWAY, principal());
+    }
+
+    private Message<byte[]> emptyMessage() {
+        return MessageBuilder.withPayload(new byte[0]).build();
+    }
+
+    private Principal principal() {
+        return new UsernamePasswordAuthenticationToken(USER_ID, null);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.flyby.ramble.matching.listener;
+
+import com.flyby.ramble.common.config.SchedulingConfig;
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.event.MatchQueuedEvent;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.worker.MatchingWorker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MatchingTriggerListener 테스트")
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {
+        SchedulingConfig.class,
+        MatchingProperties.class,
+        MatchingTriggerListener.class
+})
+class MatchingTriggerListenerTest {
+
+    @MockitoBean
+    private MatchingWorker matchingWorker;
+
+    @Autowired
+    private MatchingProperties matchingProperties;
+
+    @Autowired
+    private MatchingTriggerListener listener;
+
+    @BeforeEach
+    void setUp() {
+        matchingProperties.getTrigger().setEnabled(true);
+        matchingProperties.getTrigger().setWindow(Duration.ofMillis(200));
+        matchingProperties.getTrigger().setBatchThreshold(10);
+    }
+
+    @Test
+    @DisplayName("handle: window 내 여러 등록 → 매칭 1회 실행")
+    void handle_multipleEventsWithinWindow_coalescedIntoSingleRun() {
+        // when
+        IntStream.range(0, 5).forEach(i -> listener.handle(new MatchQueuedEvent("user-" + i, Language.KO)));
+
+        // then
+        await().atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(matchingWorker, times(1)).tick());
+        await().during(300, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(matchingWorker, times(1)).tick());
+    }
+
+    @Test
+    @DisplayName("handle: 임계치 도달 → window 이전에 즉시 실행")
+    void handle_batchThresholdReached_runsBeforeWindow() {
+        // given
+        matchingProperties.getTrigger().setWindow(Duration.ofSeconds(10));
+
+        // when
+        IntStream.range(0, 10).forEach(i -> listener.handle(new MatchQueuedEvent("user-" + i, Language.KO)));
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(matchingWorker, times(1)).tick());
+    }
+
+    @Test
+    @DisplayName("handle: 트리거 비활성화 → 실행하지 않음")
+    void handle_disabled_doesNothing() {
+        // given
+        matchingProperties.getTrigger().setEnabled(false);
+
+        // when
+        listener.handle(new MatchQueuedEvent("user-1", Language.KO));
+
+        // then
+        await().during(400, TimeUnit.MILLISECONDS).atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> verify(matchingWorker, never()).tick());
+    }
+
+}
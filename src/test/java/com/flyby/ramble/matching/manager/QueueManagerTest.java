@@ -2,13 +2,17 @@ package com.flyby.ramble.matching.manager;
 
 import com.flyby.ramble.matching.RedisTestBase;
 import com.flyby.ramble.matching.constants.MatchingConstants;
+import com.flyby.ramble.matching.dto.EnqueueResult;
+import com.flyby.ramble.matching.dto.ExpirySweepResult;
 import com.flyby.ramble.matching.dto.MatchingProfile;
 import com.flyby.ramble.matching.model.Language;
 import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.matching.util.QueueCode;
 import com.flyby.ramble.matching.util.RedisKeyBuilder;
 import com.flyby.ramble.user.model.Gender;
 import org.junit.jupiter.api.*;
 import org.redisson.api.RBucket;
+import org.redisson.api.RMap;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +20,7 @@ import org.springframework.test.context.ContextConfiguration;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -89,21 +93,26 @@ class QueueManagerTest extends RedisTestBase {
         assertThat(userId).isEqualTo("user-1");
     }
 
-    @DisplayName("requeue: 대기열에만 추가 (프로필 저장 안함)")
+    @DisplayName("requeue: poll 이후 대기열에만 재등록 (프로필 유지)")
     @Test
     @Order(2)
     void requeue_addsToQueueOnly() {
-        // when
-        queueManager.requeueAll(List.of(testProfile1));
+        // given
+        queueManager.enqueue(testProfile1);
+        MatchingProfile polled = queueManager.pollWithProfiles().values().iterator().next().get(0);
         String queueKey = RedisKeyBuilder.buildQueueKey(testProfile1);
+        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(queueKey, StringCodec.INSTANCE);
+        assertThat(queue.isEmpty()).isTrue();
+
+        // when
+        queueManager.requeueAll(List.of(polled));
 
         // then
         MatchingProfile retrieved = queueManager.getProfile("user-1");
-        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(queueKey, StringCodec.INSTANCE);
-        String userId = queue.first();
 
-        assertThat(retrieved).isNull();
-        assertThat(userId).isEqualTo("user-1");
+        assertThat(retrieved).isNotNull();
+        assertThat(queue.first()).isEqualTo("user-1");
+        assertThat(queue.getScore("user-1")).isEqualTo((double) polled.getQueueEntryTime());
     }
 
     @DisplayName("enqueue: 다수 사용자 추가")
@@ -116,12 +125,8 @@ class QueueManagerTest extends RedisTestBase {
         queueManager.enqueue(testProfile3);
 
         // then - 모든 프로필이 저장되었는지 확인
-        Map<String, MatchingProfile> profiles = queueManager.getProfiles(
-                Set.of("user-1", "user-2", "user-3")
-        );
-
-        assertThat(profiles).hasSize(3);
-        assertThat(profiles.values())
+        assertThat(Set.of("user-1", "user-2", "user-3"))
+                .extracting(queueManager::getProfile)
                 .extracting(MatchingProfile::getUserExternalId)
                 .containsExactlyInAnyOrder("user-1", "user-2", "user-3");
     }
@@ -158,17 +163,18 @@ class QueueManagerTest extends RedisTestBase {
         assertThat(queueManager.getProfile("user-1")).isNull();
     }
 
-    @DisplayName("deleteProfiles: 일괄 제거")
+    @DisplayName("releaseProfiles: poll한 사용자 일괄 제거")
     @Test
     @Order(6)
-    void deleteProfiles_batch() {
+    void releaseProfiles_batch() {
         // given
         queueManager.enqueue(testProfile1);
         queueManager.enqueue(testProfile2);
         queueManager.enqueue(testProfile3);
+        List<MatchingProfile> polled = queueManager.pollWithProfiles().get(RedisKeyBuilder.buildQueueKey(testProfile1));
 
         // when
-        queueManager.deleteProfiles(Set.of("user-1", "user-2"));
+        queueManager.releaseProfiles(polled);
 
         // then
         assertThat(queueManager.getProfile("user-1")).isNull();
@@ -214,17 +220,13 @@ class QueueManagerTest extends RedisTestBase {
         // when - 큐 키 확인
         String queueKey = RedisKeyBuilder.buildQueueKey(Gender.MALE, Language.KO, Region.KR);
 
-        Map<String, List<String>> groups = queueManager.poll();
-        List<String> queue = groups.get(queueKey);
-
-        // then - 두 사용자가 같은 큐에 있어야 함
-        assertThat(queue).hasSize(2);
+        Map<String, List<MatchingProfile>> groups = queueManager.pollWithProfiles();
+        List<MatchingProfile> queue = groups.get(queueKey);
 
-        // 추가된 순서로 반환되어야 함
-        String user1 = queue.get(0);
-        String user2 = queue.get(1);
-        assertThat(user1).isEqualTo(testProfile1.getUserExternalId());
-        assertThat(user2).isEqualTo(testProfile2.getUserExternalId());
+        // then - 두 사용자가 같은 큐에 있어야 하고, 추가된 순서로 반환되어야 함
+        assertThat(queue)
+                .extracting(MatchingProfile::getUserExternalId)
+                .containsExactly(testProfile1.getUserExternalId(), testProfile2.getUserExternalId());
     }
 
     @DisplayName("enqueue: 다른 큐 - 분리 확인")
@@ -239,26 +241,26 @@ class QueueManagerTest extends RedisTestBase {
         String queue1Key = "match:queue:MALE:KO:KR";
         String queue2Key = "match:queue:FEMALE:EN:US";
 
-        Map<String, List<String>> groups = queueManager.poll();
-        List<String> queue1 = groups.get(queue1Key);
-        List<String> queue2 = groups.get(queue2Key);
+        Map<String, List<MatchingProfile>> groups = queueManager.pollWithProfiles();
 
         // then
-        assertThat(queue1).hasSize(1);
-        assertThat(queue2).hasSize(1);
-        assertThat(queue1).contains("user-1");
-        assertThat(queue2).contains("user-3");
+        assertThat(groups.get(queue1Key)).extracting(MatchingProfile::getUserExternalId).containsExactly("user-1");
+        assertThat(groups.get(queue2Key)).extracting(MatchingProfile::getUserExternalId).containsExactly("user-3");
     }
 
-    @DisplayName("getProfiles: 빈 Set → 빈 Map")
+    @DisplayName("pollWithProfiles: 빈 파티션 목록 → 빈 Map")
     @Test
     @Order(11)
-    void getProfiles_emptySet_returnsEmpty() {
+    void pollWithProfiles_emptyPartitions_returnsEmpty() {
+        // given
+        queueManager.enqueue(testProfile1);
+
         // when
-        Map<String, MatchingProfile> profiles = queueManager.getProfiles(Set.of());
+        Map<String, List<MatchingProfile>> result = queueManager.pollWithProfiles(List.of());
 
         // then
-        assertThat(profiles).isEmpty();
+        assertThat(result).isEmpty();
+        assertThat(queueManager.getActiveQueueSizes()).containsEntry(RedisKeyBuilder.buildQueueKey(testProfile1), 1);
     }
 
     @DisplayName("dequeue: null → false")
@@ -272,109 +274,86 @@ class QueueManagerTest extends RedisTestBase {
         assertThat(removed).isFalse();
     }
 
-    @DisplayName("[성능] 대량 처리 - 같은 큐")
+    @DisplayName("[대량] pollWithProfiles 최대 인원 초과 - 같은 큐: tick마다 limit명씩 등록 순서대로")
     @Test
     @Order(13)
-    void bulk_sameQueue_performance() {
-        // given - 테스트 사용자 생성
-        int userCount = 1000; // 변경하면서 테스트
-        Set<String> userIds = new HashSet<>();
+    void pollWithProfiles_overLimit_sameQueue_pollsInEntryOrder() {
+        // given
+        int userCount = 1000;
+        int limit = 300;
 
-        System.out.println("시작: " + LocalDateTime.now());
         for (int i = 0; i < userCount; i++) {
-            MatchingProfile profile = MatchingProfile.builder()
+            queueManager.enqueue(MatchingProfile.builder()
                     .userId((long) i)
                     .userExternalId("user-" + i)
                     .region(Region.KR)
                     .gender(Gender.MALE)
                     .language(Language.KO)
-                    .build();
-
-            userIds.add("user-" + i);
-            queueManager.enqueue(profile);
+                    .build());
         }
-        System.out.println("삽입 완료: " + LocalDateTime.now());
-
-        // when (1) - 모든 사용자 프로필 조회
-        Map<String, MatchingProfile> profiles = queueManager.getProfiles(userIds);
-        System.out.println("프로필 조회 완료: " + LocalDateTime.now());
-        Map<String, List<String>> queues = queueManager.poll();
-        System.out.println("대기열 조회 완료: " + LocalDateTime.now());
-
-        List<String> queue = queues.get("match:queue:MALE:KO:KR");
-
-        // then - 조회 검증
-        assertThat(profiles).hasSize(userCount);
-        assertThat(queue).isNotEmpty(); //.hasSize(Math.min(userCount, 50)); // pollWithExactMatch는 큐마다 최대 50개씩
-
-        // when (2) - 일괄 삭제
-        queueManager.deleteProfiles(userIds);
-        System.out.println("삭제 완료: " + LocalDateTime.now());
+        String queueKey = RedisKeyBuilder.buildQueueKey(Gender.MALE, Language.KO, Region.KR);
 
-        // 삭제 확인
-        Map<String, MatchingProfile> afterRemoval = queueManager.getProfiles(userIds);
-        assertThat(afterRemoval).isEmpty();
+        // when
+        List<MatchingProfile> first = queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit).get(queueKey);
+        List<MatchingProfile> second = queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit).get(queueKey);
+
+        // then - limit명씩, 먼저 등록한 사용자부터
+        assertThat(first).hasSize(limit);
+        assertThat(second).hasSize(limit);
+        assertThat(first.get(limit - 1).getQueueEntryTime()).isLessThanOrEqualTo(second.get(0).getQueueEntryTime());
+        assertThat(queueManager.getActiveQueueSizes()).containsExactly(Map.entry(queueKey, userCount - 2 * limit));
     }
 
-    @DisplayName("[성능] 대량 처리 - 다른 큐")
+    @DisplayName("[대량] pollWithProfiles 최대 인원 초과 - 다른 큐: 반복 tick으로 모든 사용자를 한 번씩 poll")
     @Test
     @Order(14)
-    void bulk_differentQueues_performance() {
+    void pollWithProfiles_overLimit_differentQueues_drainsAll() {
         Gender[] genders = Gender.values();
         Language[] languages = Language.values();
         Region[] regions = Region.values();
 
-        // given - 테스트 사용자 생성
-        int userCount = 1000; // 변경하면서 테스트
-        Set<String> userIds = new HashSet<>();
+        // given
+        int userCount = 1000;
+        int limit = 100;
 
-        System.out.println("시작: " + LocalDateTime.now());
         for (int i = 0; i < userCount; i++) {
-            MatchingProfile profile = MatchingProfile.builder()
+            queueManager.enqueue(MatchingProfile.builder()
                     .userId((long) i)
                     .userExternalId("user-" + i)
-                    .region(regions[i % (regions.length-1)])
-                    .gender(genders[i % (genders.length-1)])
-                    .language(languages[i % (languages.length-1)])
-                    .build();
-
-            userIds.add("user-" + i);
-            queueManager.enqueue(profile);
+                    .region(regions[i % (regions.length - 1)])
+                    .gender(genders[i % (genders.length - 1)])
+                    .language(languages[i % (languages.length - 1)])
+                    .build());
         }
-        System.out.println("삽입 완료: " + LocalDateTime.now());
-
-        // when (1) - 모든 사용자 프로필 조회
-        Map<String, MatchingProfile> profiles = queueManager.getProfiles(userIds);
-        System.out.println("프로필 조회 완료: " + LocalDateTime.now());
-        Map<String, List<String>> queues = queueManager.poll();
-        System.out.println("대기열 조회 완료: " + LocalDateTime.now());
-
-        // then - 조회 검증
-        assertThat(profiles).hasSize(userCount);
-        assertThat(queues).isNotEmpty().hasSize(Math.min(userCount, 390)); // 390은 최대 조합 수
-        assertThat(queues.values())
-                .flatExtracting(list -> list) // 각 리스트의 원소들을 하나로 합침
-                .hasSize(Math.min(userCount, MatchingConstants.REDIS_BATCH_SIZE)) // queueManager의 poll 최대 개수 (REDIS_BATCH_SIZE와 동일하지는 않음)
-                .doesNotHaveDuplicates();
 
-        // when (2) - 일괄 삭제
-        queueManager.deleteProfiles(userIds);
-        System.out.println("삭제 완료: " + LocalDateTime.now());
+        // when - 대기열이 빌 때까지 tick 반복
+        List<String> polled = new ArrayList<>();
+        int ticks = 0;
+
+        while (!queueManager.getActiveQueueSizes().isEmpty()) {
+            Map<String, List<MatchingProfile>> result = queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit);
 
-        // then - 삭제 확인
-        Map<String, MatchingProfile> afterRemoval = queueManager.getProfiles(userIds);
-        assertThat(afterRemoval).isEmpty();
+            assertThat(result.values().stream().mapToInt(List::size).sum()).isLessThanOrEqualTo(limit);
+            result.values().forEach(profiles -> profiles.forEach(p -> polled.add(p.getUserExternalId())));
+            ticks++;
+        }
+
+        // then - 최소 tick 수로 모든 사용자를 중복 없이 poll, 잔여 몫도 정리
+        assertThat(ticks).isEqualTo(userCount / limit);
+        assertThat(polled).hasSize(userCount).doesNotHaveDuplicates();
+        assertThat(redissonClient.getMap(MatchingConstants.QUEUE_DEFICIT, StringCodec.INSTANCE).isEmpty()).isTrue();
     }
 
-    @DisplayName("[동시성] 멀티스레드 enqueue - 같은 큐")
+    @DisplayName("[동시성] 멀티스레드 enqueue 중 pollWithProfiles - 같은 큐: 유실/중복 없음")
     @Test
     @Order(15)
-    void enqueue_concurrent_sameQueue() {
+    void pollWithProfiles_concurrentEnqueue_sameQueue() {
         // given
         int threadCount = 500; // 변경하면서 테스트
+        int limit = 50;
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
 
-        // when - 스레드에서 동시에 사용자 추가
+        // when - 스레드에서 동시에 사용자 추가하면서 poll
         List<CompletableFuture<Void>> futures = IntStream.range(0, threadCount)
                 .mapToObj(i -> CompletableFuture.runAsync(() -> {
                     MatchingProfile profile = MatchingProfile.builder()
@@ -388,31 +367,33 @@ class QueueManagerTest extends RedisTestBase {
                 }, executor))
                 .toList();
 
-        // 모든 작업이 끝날 때까지 대기
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        List<String> polled = new ArrayList<>();
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
 
-        // then - 모든 사용자가 정상적으로 추가되었는지 확인
-        String queueKey = RedisKeyBuilder.buildQueueKey(Gender.MALE, Language.KO, Region.KR);
-        Map<String, List<String>> groups = queueManager.poll();
-        List<String> queue = groups.get(queueKey);
+        while (!all.isDone() || !queueManager.getActiveQueueSizes().isEmpty()) {
+            queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit).values()
+                    .forEach(profiles -> profiles.forEach(p -> polled.add(p.getUserExternalId())));
+        }
+        all.join();
+        executor.shutdown();
 
-        // queueManager의 poll 최대 개수 (엄밀히는 REDIS_BATCH_SIZE와 동일하지는 않음, calculateProportionalSize 때문)
-        assertThat(queue).hasSize(Math.min(threadCount, MatchingConstants.REDIS_BATCH_SIZE));
+        // then - 모든 사용자가 한 번씩 poll됨
+        assertThat(polled).hasSize(threadCount).doesNotHaveDuplicates();
     }
 
-    @DisplayName("[동시성] 멀티스레드 enqueue - 다른 큐")
+    @DisplayName("[동시성] 멀티스레드 enqueue 후 pollWithProfiles - 다른 큐: 최대 인원 내 대기열별 등록 순서 유지")
     @Test
     @Order(16)
-    void enqueue_concurrent_differentQueues() {
+    void pollWithProfiles_concurrentEnqueue_differentQueues() {
         Gender[] genders = Gender.values();
         Language[] languages = Language.values();
         Region[] regions = Region.values();
 
         // given
         int threadCount = 500; // 변경하면서 테스트
+        int limit = 200;
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
 
-        // when - 스레드에서 동시에 사용자 추가
         List<CompletableFuture<Void>> futures = IntStream.range(0, threadCount)
                 .mapToObj(index -> CompletableFuture.runAsync(() -> {
                     MatchingProfile profile = MatchingProfile.builder()
@@ -426,20 +407,20 @@ class QueueManagerTest extends RedisTestBase {
                 }, executor))
                 .toList();
 
-        // 모든 작업이 끝날 때까지 대기
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
 
-        // then - 모든 사용자가 정상적으로 추가되었는지 확인
-        Map<String, List<String>> queues = queueManager.poll();
-
-        // queueManager의 poll 최대 개수 (엄밀히는 REDIS_BATCH_SIZE와 동일하지는 않음, calculateProportionalSize 때문)
-        int minExpectedSize = Math.min(threadCount, MatchingConstants.REDIS_BATCH_SIZE) / 390; // (390은 최대 조합 수)
-        int maxExpectedSize = minExpectedSize + 1;
-
-        assertThat(queues).isNotEmpty().hasSize(Math.min(threadCount, 390)); // 390은 최대 조합 수
-        // 각 대기열 사이즈 검증
-        assertThat(queues.values()).allSatisfy(userList ->
-                assertThat(userList.size()).isBetween(minExpectedSize, maxExpectedSize));
+        // when
+        Map<String, List<MatchingProfile>> queues = queueManager.pollWithProfiles(QueueCode.PARTITIONS, limit);
+
+        // then - 전체 limit명, 각 대기열은 등록 순서대로
+        assertThat(queues.values().stream().mapToInt(List::size).sum()).isEqualTo(limit);
+        assertThat(queues.values()).allSatisfy(profiles ->
+                assertThat(profiles)
+                        .extracting(MatchingProfile::getQueueEntryTime)
+                        .isSorted());
+        assertThat(queueManager.getActiveQueueSizes().values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(threadCount - limit);
     }
 
     @DisplayName("[대량] pollWithProfiles - 같은 큐")
@@ -636,7 +617,7 @@ class QueueManagerTest extends RedisTestBase {
 
         List<MatchingProfile> profiles = result.get(queueKey);
         assertThat(profiles)
-                .hasSize(Math.min(threadCount, MatchingConstants.REDIS_BATCH_SIZE))
+                .hasSize(Math.min(threadCount, MatchingConstants.MATCHING_BATCH_SIZE))
                 .allSatisfy(p -> {
                     assertThat(p.getUserExternalId()).startsWith("concurrent-user-");
                     assertThat(p.getRegion()).isEqualTo(Region.KR);
@@ -685,7 +666,7 @@ class QueueManagerTest extends RedisTestBase {
                 .toList();
 
         assertThat(allProfiles)
-                .hasSizeLessThanOrEqualTo(MatchingConstants.REDIS_BATCH_SIZE)
+                .hasSizeLessThanOrEqualTo(MatchingConstants.MATCHING_BATCH_SIZE)
                 .allSatisfy(p -> assertThat(p.getUserExternalId()).startsWith("concurrent-user-"))
                 .doesNotHaveDuplicates();
 
@@ -711,4 +692,236 @@ class QueueManagerTest extends RedisTestBase {
         // then
         assertThat(result).isEqualTo("OK");
     }
-}
\ No newline at end of file
+
+    @DisplayName("sweepExpired: 만료된 대기열 항목 + 프로필/대기 정보 제거, 힌트 갱신")
+    @Test
+    @Order(24)
+    void sweepExpired_expiredEntries_removed() {
+        // given - user-1은 만료 시점(5분) 이전에 등록된 것으로 조작
+        queueManager.enqueue(testProfile1);
+        queueManager.enqueue(testProfile2);
+
+        String queueKey = RedisKeyBuilder.buildQueueKey(testProfile1);
+        backdate("user-1", queueKey, System.currentTimeMillis() - (MatchingConstants.QUEUE_TTL * 60_000L + 1_000L));
+
+        // when
+        ExpirySweepResult result = queueManager.sweepExpired("0", 100);
+
+        // then - user-1만 제거, 힌트는 남은 user-2의 등록 시각
+        assertThat(result.expired()).isEqualTo(1);
+        assertThat(result.nextCursor()).isEqualTo("0");
+        assertThat(queueManager.getProfile("user-1")).isNull();
+        assertThat(queueManager.getQueueKey("user-1")).isNull();
+        assertThat(queueManager.getProfile("user-2")).isNotNull();
+
+        RScoredSortedSet<String> queue = redissonClient.getScoredSortedSet(queueKey, StringCodec.INSTANCE);
+        assertThat(queue.readAll()).containsExactly("user-2");
+        assertThat(getOldestHint(queueKey)).isEqualTo(String.valueOf(queue.firstScore().longValue()));
+    }
+
+    @DisplayName("pollWithProfiles: 프로필 없는 사용자 제외")
+    @Test
+    @Order(25)
+    void pollWithProfiles_missingProfile_excluded() {
+        // given
+        queueManager.enqueue(testProfile1);
+        queueManager.enqueue(testProfile3);
+        redissonClient.getBucket(RedisKeyBuilder.buildProfileKey(testProfile1)).delete();
+
+        // when
+        Map<String, List<MatchingProfile>> result = queueManager.pollWithProfiles();
+
+        // then - user-1은 poll 되었으나 프로필이 없어 제외
+        assertThat(result).hasSize(1);
+        assertThat(result.get(RedisKeyBuilder.buildQueueKey(testProfile3)))
+                .extracting(MatchingProfile::getUserExternalId)
+                .containsExactly("user-3");
+        assertThat(redissonClient.getScoredSortedSet(RedisKeyBuilder.buildQueueKey(testProfile1), StringCodec.INSTANCE).isEmpty()).isTrue();
+    }
+
+    @DisplayName("replace: 다른 조건으로 재요청 → 기존 대기열에서 제거 후 신규 대기열 등록")
+    @Test
+    @Order(26)
+    void replace_differentQueue_movesEntry() {
+        // given
+        queueManager.enqueue(testProfile1);
+        String oldQueueKey = RedisKeyBuilder.buildQueueKey(testProfile1);
+
+        MatchingProfile moved = MatchingProfile.builder()
+                .userId(1L)
+                .userExternalId("user-1")
+                .region(Region.US)
+                .gender(Gender.MALE)
+                .language(Language.EN)
+                .build();
+
+        // when
+        EnqueueResult result = queueManager.replace(moved);
+
+        // then
+        assertThat(result.enqueued()).isTrue();
+        assertThat(result.inSession()).isFalse();
+        assertThat(redissonClient.getScoredSortedSet(oldQueueKey, StringCodec.INSTANCE).isEmpty()).isTrue();
+        assertThat(redissonClient.getScoredSortedSet(RedisKeyBuilder.buildQueueKey(moved), StringCodec.INSTANCE).contains("user-1")).isTrue();
+        assertThat(queueManager.getProfile("user-1").getLanguage()).isEqualTo(Language.EN);
+        assertThat(queueManager.getActiveQueueSizes()).containsEntry(RedisKeyBuilder.buildQueueKey(moved), 1);
+    }
+
+    @DisplayName("replace: 활성 세션 존재 → inSession 반환")
+    @Test
+    @Order(27)
+    void replace_activeSession_reportsInSession() {
+        // given - 기존 userId → sessionId 매핑
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionUserKey("user-1")).set("session-1");
+        // given - 참가자별 세션 정보
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionRouteKey("user-2")).set("session-2");
+
+        // when
+        EnqueueResult result = queueManager.replace(testProfile1);
+        EnqueueResult result2 = queueManager.replace(testProfile2);
+        EnqueueResult result3 = queueManager.replace(testProfile3);
+
+        // then
+        assertThat(result.enqueued()).isTrue();
+        assertThat(result.inSession()).isTrue();
+        assertThat(result2.inSession()).isTrue();
+        assertThat(result3.inSession()).isFalse();
+    }
+
+    @DisplayName("releaseProfiles/requeueAll: poll 이후 재요청한 사용자 → 신규 등록 유지")
+    @Test
+    @Order(28)
+    void releaseAndRequeue_reenqueuedAfterPoll_keepsNewEntry() throws InterruptedException {
+        // given - poll 이후 user-1이 다른 조건으로 재요청
+        queueManager.enqueue(testProfile1);
+        queueManager.enqueue(testProfile2);
+        List<MatchingProfile> polled = queueManager.pollWithProfiles().values().iterator().next();
+
+        Thread.sleep(2);
+        queueManager.enqueue(MatchingProfile.builder()
+                .userId(1L)
+                .userExternalId("user-1")
+                .region(Region.US)
+                .gender(Gender.MALE)
+                .language(Language.EN)
+                .build());
+
+        // when - 이전 poll 결과 기준으로 삭제/재등록
+        queueManager.releaseProfiles(polled);
+        queueManager.requeueAll(polled);
+
+        // then - user-1 신규 등록 유지, 이전 대기열 재등록 안됨 / user-2는 정상 삭제
+        assertThat(queueManager.getProfile("user-1").getLanguage()).isEqualTo(Language.EN);
+        assertThat(queueManager.getProfile("user-2")).isNull();
+        assertThat(redissonClient.getScoredSortedSet(RedisKeyBuilder.buildQueueKey(testProfile1), StringCodec.INSTANCE)
+                .contains("user-1")).isFalse();
+    }
+
+    @DisplayName("sweepExpired: 힌트가 만료 기준보다 최신인 대기열은 건너뛰고 디렉터리 인원 보정")
+    @Test
+    @Order(29)
+    void sweepExpired_freshQueues_skippedAndDirectoryReconciled() {
+        // given - 서로 다른 대기열 2개, 디렉터리 인원이 실제와 어긋난 상태
+        queueManager.enqueue(testProfile1);
+        queueManager.enqueue(testProfile3);
+
+        String queueKey = RedisKeyBuilder.buildQueueKey(testProfile1);
+        redissonClient.getMap(MatchingConstants.QUEUE_DIRECTORY, StringCodec.INSTANCE).put(queueKey, "5");
+
+        // when - 디렉터리 끝까지 순회
+        String cursor = "0";
+        int expired = 0;
+        do {
+            ExpirySweepResult result = queueManager.sweepExpired(cursor, 1);
+            cursor = result.nextCursor();
+            expired += result.expired();
+        } while (!"0".equals(cursor));
+
+        // then - 제거 없음, 인원 보정
+        assertThat(expired).isZero();
+        assertThat(queueManager.getProfile("user-1")).isNotNull();
+        assertThat(queueManager.getProfile("user-3")).isNotNull();
+        assertThat(queueManager.getActiveQueueSizes())
+                .containsEntry(queueKey, 1)
+                .containsEntry(RedisKeyBuilder.buildQueueKey(testProfile3), 1);
+    }
+
+    @DisplayName("대기열 디렉터리: 등록/poll/재등록/취소에 따라 인원 갱신, 빈 대기열은 제거")
+    @Test
+    @Order(30)
+    void directory_tracksQueueSizes() {
+        String queueKey = RedisKeyBuilder.buildQueueKey(testProfile1);
+
+        // 등록
+        queueManager.enqueue(testProfile1);
+        queueManager.enqueue(testProfile2);
+        assertThat(queueManager.getActiveQueueSizes()).containsExactly(Map.entry(queueKey, 2));
+
+        // poll → 비어 있는 대기열은 디렉터리에서 제거
+        List<MatchingProfile> polled = queueManager.pollWithProfiles().get(queueKey);
+        assertThat(queueManager.getActiveQueueSizes()).isEmpty();
+
+        // 재등록 → 같은 사용자를 두 번 재등록해도 인원은 한 번만 증가
+        queueManager.requeueAll(polled);
+        queueManager.requeueAll(polled);
+        assertThat(queueManager.getActiveQueueSizes()).containsExactly(Map.entry(queueKey, 2));
+
+        // 취소
+        queueManager.dequeue(testProfile1);
+        assertThat(queueManager.getActiveQueueSizes()).containsExactly(Map.entry(queueKey, 1));
+    }
+
+    @DisplayName("pollWithProfiles: 최대 poll 인원 초과 → 선두 대기 시간이 긴 대기열 우선, 잔여 몫 이월")
+    @Test
+    @Order(31)
+    void pollWithProfiles_overLimit_favorsLongestWaitAndCarriesDeficit() {
+        // given - 새로 등록한 10명 대기열 + 60초 대기한 2명 대기열
+        for (int i = 0; i < 10; i++) {
+            queueManager.enqueue(MatchingProfile.builder()
+                    .userId((long) i).userExternalId("fresh-" + i)
+                    .region(Region.KR).gender(Gender.MALE).language(Language.KO)
+                    .build());
+        }
+        queueManager.enqueue(testProfile3);
+        queueManager.enqueue(MatchingProfile.builder()
+                .userId(4L).userExternalId("user-4")
+                .region(Region.US).gender(Gender.FEMALE).language(Language.EN)
+                .build());
+
+        String freshQueue = RedisKeyBuilder.buildQueueKey(testProfile1);
+        String waitingQueue = RedisKeyBuilder.buildQueueKey(testProfile3);
+        long entry = System.currentTimeMillis() - 60_000;
+        backdate("user-3", waitingQueue, entry);
+        backdate("user-4", waitingQueue, entry);
+
+        // when
+        Map<String, List<MatchingProfile>> result = queueManager.pollWithProfiles(List.of("KO", "EN"), 4);
+
+        // then - 오래 기다린 대기열은 모두 poll, 나머지 자리는 새 대기열
+        assertThat(result.get(waitingQueue))
+                .extracting(MatchingProfile::getUserExternalId)
+                .containsExactlyInAnyOrder("user-3", "user-4");
+        assertThat(result.get(freshQueue)).hasSize(2);
+
+        // 비운 대기열은 잔여 몫 초기화, 남은 대기열은 이월
+        RMap<String, String> deficits = redissonClient.getMap(MatchingConstants.QUEUE_DEFICIT, StringCodec.INSTANCE);
+        assertThat(deficits.get(waitingQueue)).isNull();
+        assertThat(deficits.get(freshQueue)).isNotNull();
+        assertThat(queueManager.getActiveQueueSizes()).containsExactly(Map.entry(freshQueue, 8));
+    }
+
+    /**
+     * 대기열 score, 대기 정보 등록 시각, 힌트를 과거 시각으로 조작
+     */
+    private void backdate(String userId, String queueKey, long entry) {
+        redissonClient.getScoredSortedSet(queueKey, StringCodec.INSTANCE).add(entry, userId);
+        redissonClient.getMap(RedisKeyBuilder.buildMemberKey(userId), StringCodec.INSTANCE).put("entry", String.valueOf(entry));
+        redissonClient.getMap(MatchingConstants.QUEUE_OLDEST, StringCodec.INSTANCE).put(queueKey, String.valueOf(entry));
+    }
+
+    private String getOldestHint(String queueKey) {
+        RMap<String, String> hints = redissonClient.getMap(MatchingConstants.QUEUE_OLDEST, StringCodec.INSTANCE);
+        return hints.get(queueKey);
+    }
+
+}
@@ -10,18 +10,20 @@ import com.flyby.ramble.matching.util.RedisKeyBuilder;
 import com.flyby.ramble.session.dto.ParticipantData;
 import com.flyby.ramble.session.dto.SessionData;
 import com.flyby.ramble.session.event.SessionEndedEvent;
-import com.flyby.ramble.session.service.SessionService;
+import com.flyby.ramble.session.service.SessionWriteBehind;
 import com.flyby.ramble.user.model.Gender;
 import com.flyby.ramble.user.model.User;
 import org.junit.jupiter.api.*;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.redisson.api.RBucket;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +31,7 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
@@ -43,7 +46,7 @@ class SessionManagerTest extends RedisTestBase {
     private ApplicationEventPublisher eventPublisher;
 
     @MockitoBean
-    private SessionService sessionService;
+    private SessionWriteBehind sessionWriteBehind;
 
     @Autowired
     private SessionManager sessionManager;
@@ -81,7 +84,7 @@ class SessionManagerTest extends RedisTestBase {
         sessionManager.saveSessions(sessionList);
 
         // then
-        SessionData saveSession = sessionManager.getSession(session.sessionId().toString());
+        SessionData saveSession = sessionManager.getSessionByUserId(participants.get(0).userExternalId());
 
         assertThat(saveSession).isNotNull();
         assertThat(saveSession.sessionId()).isEqualTo(session.sessionId());
@@ -115,7 +118,7 @@ class SessionManagerTest extends RedisTestBase {
         // then: 모든 세션이 정상적으로 저장되었는지 확인
         int savedCount = 0;
         for (SessionData session : largeSessions) {
-            SessionData retrieved = sessionManager.getSession(session.sessionId().toString());
+            SessionData retrieved = sessionManager.getSessionByUserId(session.participants().get(0).userExternalId());
             if (retrieved != null) {
                 savedCount++;
             }
@@ -123,28 +126,29 @@ class SessionManagerTest extends RedisTestBase {
         assertThat(savedCount).isEqualTo(totalSessions);
     }
 
-    @DisplayName("saveSessions: sessionId와 userId 참조 키 생성")
+    @DisplayName("saveSessions: 참가자별 세션 정보 키 생성 (기존 키는 기록하지 않음)")
     @Test
     @Order(4)
-    void saveSessions_createsSessionAndUserKeys() {
+    void saveSessions_createsRouteKeys() {
         // when
         List<SessionData> sessionList = createSessionDataList(1);
         SessionData session = sessionList.get(0);
         sessionManager.saveSessions(sessionList);
 
-        // then: sessionId 키 확인
-        String sessionKey = RedisKeyBuilder.buildSessionKey(session.sessionId().toString());
-        RBucket<SessionData> sessionBucket = redissonClient.getBucket(sessionKey);
-        assertThat(sessionBucket.isExists()).isTrue();
-        assertThat(sessionBucket.get().sessionId()).isEqualTo(session.sessionId());
-
-        // then: userId 참조 키 확인
+        // then: 참가자별 세션 정보 키 확인
         for (ParticipantData participant : session.participants()) {
+            String routeKey = RedisKeyBuilder.buildSessionRouteKey(participant.userExternalId());
+            RBucket<SessionData> routeBucket = redissonClient.getBucket(routeKey);
+            assertThat(routeBucket.isExists()).isTrue();
+            assertThat(routeBucket.get()).isEqualTo(session);
+
             String userKey = RedisKeyBuilder.buildSessionUserKey(participant.userExternalId());
-            RBucket<String> userBucket = redissonClient.getBucket(userKey);
-            assertThat(userBucket.isExists()).isTrue();
-            assertThat(userBucket.get()).isEqualTo(session.sessionId().toString());
+            assertThat(redissonClient.getBucket(userKey).isExists()).isFalse();
         }
+
+        // then: 기존 sessionId 키 없음
+        String sessionKey = RedisKeyBuilder.buildSessionKey(session.sessionId().toString());
+        assertThat(redissonClient.getBucket(sessionKey).isExists()).isFalse();
     }
 
     @DisplayName("closeSession: 관련 키 모두 삭제")
@@ -157,19 +161,16 @@ class SessionManagerTest extends RedisTestBase {
         sessionManager.saveSessions(sessionList);
 
         // 저장 확인
-        String sessionKey = RedisKeyBuilder.buildSessionKey(session.sessionId().toString());
-        assertThat(redissonClient.getBucket(sessionKey).isExists()).isTrue();
+        String routeKey = RedisKeyBuilder.buildSessionRouteKey(session.participants().get(0).userExternalId());
+        assertThat(redissonClient.getBucket(routeKey).isExists()).isTrue();
 
         // when
         sessionManager.closeSession(session);
 
-        // then: sessionId 키 삭제 확인
-        assertThat(redissonClient.getBucket(sessionKey).isExists()).isFalse();
-
-        // then: userId 참조 키 삭제 확인
+        // then: 참가자별 세션 정보 키 삭제 확인
         for (ParticipantData participant : session.participants()) {
-            String userKey = RedisKeyBuilder.buildSessionUserKey(participant.userExternalId());
-            assertThat(redissonClient.getBucket(userKey).isExists()).isFalse();
+            String key = RedisKeyBuilder.buildSessionRouteKey(participant.userExternalId());
+            assertThat(redissonClient.getBucket(key).isExists()).isFalse();
         }
     }
 
@@ -225,12 +226,9 @@ class SessionManagerTest extends RedisTestBase {
         sessionManager.saveSessions(sessionList);
         String userId = session.participants().get(0).userExternalId();
 
-        // userId -> sessionId 매핑이 저장되었는지 먼저 확인
-        String userKey = RedisKeyBuilder.buildSessionUserKey(userId);
-        RBucket<String> userBucket = redissonClient.getBucket(userKey);
-        assertThat(userBucket.isExists()).isTrue();
-        String sessionIdFromBucket = userBucket.get();
-        assertThat(sessionIdFromBucket).isEqualTo(session.sessionId().toString());
+        // 참가자별 세션 정보가 저장되었는지 먼저 확인
+        String routeKey = RedisKeyBuilder.buildSessionRouteKey(userId);
+        assertThat(redissonClient.getBucket(routeKey).isExists()).isTrue();
 
         // when
         SessionData saveSession = sessionManager.getSessionByUserId(userId);
@@ -250,6 +248,129 @@ class SessionManagerTest extends RedisTestBase {
         assertThat(session).isNull();
     }
 
+    @DisplayName("getSessionByUserId/closeSession: 기존 키로 저장된 세션 조회 및 삭제")
+    @Test
+    @Order(11)
+    void legacySession_readAndClosed() {
+        // given - 배포 이전 형식 (sessionId 키 + userId 참조 키)
+        SessionData session = createSessionDataList(1).get(0);
+        String sessionId = session.sessionId().toString();
+        String sessionKey = RedisKeyBuilder.buildSessionKey(sessionId);
+
+        redissonClient.getBucket(sessionKey).set(session);
+        for (ParticipantData participant : session.participants()) {
+            redissonClient.getBucket(RedisKeyBuilder.buildSessionUserKey(participant.userExternalId())).set(sessionId);
+        }
+
+        String userId = session.participants().get(0).userExternalId();
+        String partnerId = session.participants().get(1).userExternalId();
+
+        // when & then - 조회
+        assertThat(sessionManager.getSessionByUserId(userId)).isEqualTo(session);
+        assertThat(sessionManager.getPartnerId(userId)).isEqualTo(partnerId);
+
+        // when & then - 삭제
+        sessionManager.closeSession(session);
+
+        assertThat(redissonClient.getBucket(sessionKey).isExists()).isFalse();
+        assertThat(redissonClient.getBucket(RedisKeyBuilder.buildSessionUserKey(partnerId)).isExists()).isFalse();
+        assertThat(sessionManager.getSessionByUserId(userId)).isNull();
+    }
+
+    @DisplayName("getPartnerId: 매칭 확정 시 캐시 → Redis 조회 없이 반환, closeSession 시 무효화")
+    @Test
+    @Order(12)
+    void getPartnerId_cachedOnSaveAndInvalidatedOnClose() {
+        // given
+        SessionData session = createSessionDataList(1).get(0);
+        sessionManager.saveSessions(List.of(session));
+
+        String userId = session.participants().get(0).userExternalId();
+        String partnerId = session.participants().get(1).userExternalId();
+
+        // Redis 세션 정보를 지워도 캐시로 조회
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionRouteKey(userId)).delete();
+        assertThat(sessionManager.getPartnerId(userId)).isEqualTo(partnerId);
+        assertThat(sessionManager.getPartnerId(partnerId)).isEqualTo(userId);
+
+        // when
+        sessionManager.closeSession(session);
+
+        // then
+        assertThat(sessionManager.getPartnerId(userId)).isNull();
+        assertThat(sessionManager.getPartnerId(partnerId)).isNull();
+    }
+
+    @DisplayName("getPartnerId: 다른 노드의 세션 종료 알림 → 캐시 무효화")
+    @Test
+    @Order(13)
+    void getPartnerId_invalidatedByRemoteClose() {
+        // given - 캐시 미스 → Redis 조회 후 캐시
+        SessionData session = createSessionDataList(1).get(0);
+        sessionManager.saveSessions(List.of(session));
+
+        String userId = session.participants().get(0).userExternalId();
+        String partnerId = session.participants().get(1).userExternalId();
+        assertThat(sessionManager.getPartnerId(userId)).isEqualTo(partnerId);
+
+        // when - 다른 노드가 세션을 종료 (Redis 키 삭제 + 알림)
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionRouteKey(userId)).delete();
+        redissonClient.getTopic(MatchingConstants.SESSION_CLOSED, StringCodec.INSTANCE)
+                .publish(userId + "," + partnerId);
+
+        // then
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(sessionManager.getPartnerId(userId)).isNull());
+    }
+
+    @DisplayName("getPartnerId: 다른 노드의 재매칭 알림 → 이전 상대방 캐시 무효화")
+    @Test
+    @Order(14)
+    void getPartnerId_invalidatedByRemoteRematch() {
+        // given - 이 노드에서 매칭 확정 (user0 ↔ user1)
+        SessionData session = createSessionDataList(1).get(0);
+        sessionManager.saveSessions(List.of(session));
+
+        String userId = session.participants().get(0).userExternalId();
+        String oldPartnerId = session.participants().get(1).userExternalId();
+        String newPartnerId = testUsers.get(2).getExternalId().toString();
+        assertThat(sessionManager.getPartnerId(userId)).isEqualTo(oldPartnerId);
+
+        // when - 다른 노드가 user0 ↔ user2 재매칭 (Redis 키 덮어쓰기 + 알림)
+        SessionData rematched = new SessionData(
+                LocalDateTime.now(),
+                List.of(
+                        session.participants().get(0),
+                        new ParticipantData(testUsers.get(2).getId(), newPartnerId, Region.KR, Gender.MALE, Language.KO)
+                )
+        );
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionRouteKey(userId)).set(rematched);
+        redissonClient.getTopic(MatchingConstants.SESSION_OPENED, StringCodec.INSTANCE)
+                .publish("other-node," + userId + "," + newPartnerId);
+
+        // then
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(sessionManager.getPartnerId(userId)).isEqualTo(newPartnerId));
+    }
+
+    @DisplayName("saveSessions: 자기 매칭 확정 알림으로는 방금 등록한 캐시를 지우지 않음")
+    @Test
+    @Order(15)
+    void saveSessions_ownOpenedNotice_keepsCache() {
+        // given
+        SessionData session = createSessionDataList(1).get(0);
+        String userId = session.participants().get(0).userExternalId();
+        String partnerId = session.participants().get(1).userExternalId();
+
+        // when
+        sessionManager.saveSessions(List.of(session));
+        redissonClient.getBucket(RedisKeyBuilder.buildSessionRouteKey(userId)).delete();
+
+        // then - 알림이 도착한 뒤에도 Redis 조회 없이 캐시로 반환
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(sessionManager.getPartnerId(userId)).isEqualTo(partnerId));
+    }
+
     private List<SessionData> createSessionDataList(int count) {
         return IntStream.range(0, count)
                 .mapToObj(i -> {
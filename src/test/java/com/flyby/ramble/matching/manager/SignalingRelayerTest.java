@@ -0,0 +1,201 @@
+package com.flyby.ramble.matching.manager;
+
+import com.flyby.ramble.common.broker.UserMessageBroker;
+import com.flyby.ramble.common.dto.RawJson;
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.constants.MatchingConstants;
+import com.flyby.ramble.matching.dto.SignalMessageDTO;
+import com.flyby.ramble.matching.model.SignalType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("SignalingRelayer 테스트")
+@ExtendWith(MockitoExtension.class)
+class SignalingRelayerTest {
+
+    private static final String SENDER = "user-1";
+    private static final String RECEIVER = "user-2";
+
+    @Mock
+    private UserMessageBroker userMessageBroker;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private MatchingProperties matchingProperties;
+    private MeterRegistry meterRegistry;
+    private SignalingRelayer signalingRelayer;
+
+    @BeforeEach
+    void setUp() {
+        matchingProperties = new MatchingProperties();
+        matchingProperties.getSignaling().setCoalesceEnabled(true);
+        matchingProperties.getSignaling().setCoalesceWindow(Duration.ofMillis(20));
+        matchingProperties.getSignaling().setCoalesceMaxBatch(3);
+        meterRegistry = new SimpleMeterRegistry();
+
+        signalingRelayer = new SignalingRelayer(userMessageBroker, matchingProperties, taskScheduler, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("묶음 전송 비활성화 → CANDIDATE 즉시 전송")
+    void coalesceDisabled_sendsImmediately() {
+        // given
+        matchingProperties.getSignaling().setCoalesceEnabled(false);
+
+        // when
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+
+        // then
+        SignalMessageDTO sent = captureSent(1).get(0);
+        assertThat(sent.getType()).isEqualTo(SignalType.CANDIDATE);
+        assertThat(sent.getSenderId()).isEqualTo(SENDER);
+        then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("window 내 CANDIDATE → CANDIDATE_BATCH 한 프레임으로 전송")
+    void candidatesWithinWindow_sentAsBatch() {
+        // when
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c2"));
+
+        // then - 첫 candidate에서만 flush 예약, window 전에는 전송하지 않음
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should(times(1)).schedule(flush.capture(), any(Instant.class));
+        then(userMessageBroker).should(never()).sendToUser(any(), any(), any());
+
+        flush.getValue().run();
+
+        SignalMessageDTO sent = captureSent(1).get(0);
+        assertThat(sent.getType()).isEqualTo(SignalType.CANDIDATE_BATCH);
+        assertThat(sent.getVersion()).isEqualTo(MatchingConstants.SIGNAL_BATCH_VERSION);
+        assertThat(sent.getSenderId()).isEqualTo(SENDER);
+        assertThat(sent.getReceiverId()).isEqualTo(RECEIVER);
+        assertThat(sent.getData().json()).isEqualTo("[{\"candidate\":\"c1\"},{\"candidate\":\"c2\"}]");
+        assertThat(signalingRelayer.getPendingRouteCount()).isZero();
+        assertThat(meterRegistry.get("signaling.candidate.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("window 내 CANDIDATE 1개 → CANDIDATE 그대로 전송")
+    void singleCandidate_sentAsCandidate() {
+        // given
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should().schedule(flush.capture(), any(Instant.class));
+
+        // when
+        flush.getValue().run();
+
+        // then
+        SignalMessageDTO sent = captureSent(1).get(0);
+        assertThat(sent.getType()).isEqualTo(SignalType.CANDIDATE);
+        assertThat(sent.getVersion()).isNull();
+        assertThat(sent.getData().json()).isEqualTo("{\"candidate\":\"c1\"}");
+    }
+
+    @Test
+    @DisplayName("max-batch 도달 → window를 기다리지 않고 전송, 예약된 flush는 무시")
+    void maxBatchReached_flushesImmediately() {
+        // when
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c2"));
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c3"));
+
+        // then
+        SignalMessageDTO sent = captureSent(1).get(0);
+        assertThat(sent.getType()).isEqualTo(SignalType.CANDIDATE_BATCH);
+        assertThat(sent.getData().json()).isEqualTo("[{\"candidate\":\"c1\"},{\"candidate\":\"c2\"},{\"candidate\":\"c3\"}]");
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should().schedule(flush.capture(), any(Instant.class));
+        flush.getValue().run();
+        then(userMessageBroker).should(times(1)).sendToUser(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("OFFER/ANSWER → 대기 중인 CANDIDATE를 먼저 보내고 즉시 전송")
+    void offer_flushesPendingCandidatesFirst() {
+        // given
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+
+        // when
+        signalingRelayer.sendSignalingMessage(SENDER, message(SignalType.ANSWER, "{\"type\":\"answer\"}"));
+
+        // then
+        List<SignalMessageDTO> sent = captureSent(2);
+        assertThat(sent).extracting(SignalMessageDTO::getType)
+                .containsExactly(SignalType.CANDIDATE, SignalType.ANSWER);
+        assertThat(signalingRelayer.getPendingRouteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("송신자/수신자 쌍별로 따로 묶음")
+    void candidates_groupedPerRoute() {
+        // given
+        SignalMessageDTO reverse = SignalMessageDTO.builder()
+                .receiverId(SENDER).type(SignalType.CANDIDATE).data(RawJson.of("{\"candidate\":\"r1\"}")).build();
+
+        // when
+        signalingRelayer.sendSignalingMessage(SENDER, candidate("c1"));
+        signalingRelayer.sendSignalingMessage(RECEIVER, reverse);
+
+        // then
+        assertThat(signalingRelayer.getPendingRouteCount()).isEqualTo(2);
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should(times(2)).schedule(flush.capture(), any(Instant.class));
+        flush.getAllValues().forEach(Runnable::run);
+
+        InOrder inOrder = inOrder(userMessageBroker);
+        inOrder.verify(userMessageBroker).sendToUser(eq(RECEIVER), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), any());
+        inOrder.verify(userMessageBroker).sendToUser(eq(SENDER), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), any());
+    }
+
+    // === 헬퍼 메서드 ===
+
+    private SignalMessageDTO candidate(String candidate) {
+        return message(SignalType.CANDIDATE, "{\"candidate\":\"" + candidate + "\"}");
+    }
+
+    private SignalMessageDTO message(SignalType type, String data) {
+        return SignalMessageDTO.builder()
+                .receiverId(RECEIVER)
+                .type(type)
+                .data(RawJson.of(data))
+                .build();
+    }
+
+    private List<SignalMessageDTO> captureSent(int count) {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        then(userMessageBroker).should(times(count))
+                .sendToUser(any(), eq(MatchingConstants.SUBSCRIPTION_SIGNALING), payload.capture());
+
+        return payload.getAllValues().stream()
+                .map(SignalMessageDTO.class::cast)
+                .toList();
+    }
+
+}
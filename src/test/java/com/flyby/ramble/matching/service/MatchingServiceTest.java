@@ -1,30 +1,37 @@
 package com.flyby.ramble.matching.service;
 
 import com.flyby.ramble.common.model.OAuthProvider;
+import com.flyby.ramble.common.dto.RawJson;
+import com.flyby.ramble.common.properties.MatchingProperties;
 import com.flyby.ramble.matching.RedisTestBase;
 import com.flyby.ramble.matching.dto.MatchRequestDTO;
 import com.flyby.ramble.matching.dto.MatchResultDTO;
 import com.flyby.ramble.matching.dto.MatchingProfile;
+import com.flyby.ramble.matching.dto.SignalMessageDTO;
 import com.flyby.ramble.matching.manager.QueueManager;
 import com.flyby.ramble.matching.manager.SessionManager;
 import com.flyby.ramble.matching.manager.SignalingRelayer;
 import com.flyby.ramble.matching.model.Language;
 import com.flyby.ramble.matching.model.MatchStatus;
 import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.matching.model.SignalType;
+import com.flyby.ramble.matching.util.QueueCode;
 import com.flyby.ramble.matching.util.RedisKeyBuilder;
 import com.flyby.ramble.session.dto.ParticipantData;
 import com.flyby.ramble.session.dto.SessionData;
-import com.flyby.ramble.session.service.SessionService;
+import com.flyby.ramble.session.service.SessionWriteBehind;
 import com.flyby.ramble.user.dto.UserInfoDTO;
 import com.flyby.ramble.user.model.Gender;
 import com.flyby.ramble.user.model.Role;
 import com.flyby.ramble.user.service.UserService;
 import org.junit.jupiter.api.*;
+import org.redisson.api.RLock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -32,16 +39,23 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
 
 @DisplayName("MatchingService 테스트 (실제 Redis)")
 @ContextConfiguration(classes = {
+        MatchingProperties.class,
         QueueManager.class,
         SessionManager.class,
         MatchingService.class,
@@ -49,7 +63,7 @@ import static org.mockito.BDDMockito.given;
 class MatchingServiceTest extends RedisTestBase {
 
     @MockitoBean
-    private SessionService sessionService;
+    private SessionWriteBehind sessionWriteBehind;
 
     @MockitoBean
     private UserService userService;
@@ -69,6 +83,9 @@ class MatchingServiceTest extends RedisTestBase {
     @Autowired
     private MatchingService matchingService;
 
+    @Autowired
+    private MatchingProperties matchingProperties;
+
     private List<UserInfoDTO> testUsers;
 
     @BeforeEach
@@ -736,6 +753,183 @@ class MatchingServiceTest extends RedisTestBase {
         assertThat(sessionManager.getSessionByUserId(getExternalId(2))).isNull();
     }
 
+    @DisplayName("processMatchingQueue: 다른 노드가 보유한 파티션 → 해당 언어 대기열은 건너뜀")
+    @Test
+    @Order(27)
+    void processMatchingQueue_partitionLockedByOtherNode_skipsPartition() throws Exception {
+        // given - KO 2명, EN 2명 대기
+        enqueueUser(0, Language.KO, Region.KR);
+        enqueueUser(2, Language.KO, Region.KR);
+        enqueueUser(4, Language.EN, Region.US);
+        enqueueUser(6, Language.EN, Region.US);
+
+        // 다른 스레드(노드)가 KO 파티션 락 보유
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        try {
+            other.submit(() -> redissonClient.getLock(RedisKeyBuilder.buildLockKey(Language.KO)).lock()).get();
+
+            // when
+            matchingService.processMatchingQueue();
+
+            // then - EN만 매칭, KO는 대기열 유지
+            assertThat(sessionManager.getSessionByUserId(getExternalId(4))).isNotNull();
+            assertThat(sessionManager.getSessionByUserId(getExternalId(0))).isNull();
+            assertThat(queueManager.getProfile(getExternalId(0))).isNotNull();
+            assertThat(queueManager.getProfile(getExternalId(2))).isNotNull();
+
+            other.submit(() -> redissonClient.getLock(RedisKeyBuilder.buildLockKey(Language.KO)).unlock()).get();
+        } finally {
+            other.shutdown();
+        }
+
+        // when - 락 해제 후 재실행 → KO 매칭
+        matchingService.processMatchingQueue();
+
+        // then
+        assertThat(sessionManager.getSessionByUserId(getExternalId(0))).isNotNull();
+    }
+
+    @DisplayName("processMatchingQueue: 대기 시간 초과 미매칭 인원 → 완화 대기열로 재등록, disconnect 시 제거")
+    @Test
+    @Order(28)
+    void processMatchingQueue_longWaiter_requeuedIntoRelaxedTier() {
+        Duration languageTierAfter = matchingProperties.getLanguageTierAfter();
+        Duration genderTierAfter = matchingProperties.getGenderTierAfter();
+
+        try {
+            // given - 대기 시간과 무관하게 성별:언어 대기열로 재등록되도록 설정
+            matchingProperties.getRelaxation().setLanguageTierAfter(Duration.ZERO);
+            enqueueUser(0, Language.KO, Region.KR);
+
+            // when
+            matchingService.processMatchingQueue();
+
+            // then - 성별:언어 대기열(KO 파티션)로 이동
+            String languageTierKey = "match:queue:MALE:KO:ANY";
+            assertThat(queueManager.getQueueKey(getExternalId(0))).isEqualTo(languageTierKey);
+            assertThat(queueManager.getActiveQueueSizes()).containsEntry(languageTierKey, 1);
+
+            // when - 성별 대기열 기준까지 초과
+            matchingProperties.getRelaxation().setGenderTierAfter(Duration.ZERO);
+            matchingService.processMatchingQueue();
+
+            // then - 성별 대기열(ANY 파티션)로 이동
+            String genderTierKey = "match:queue:MALE:ANY:ANY";
+            assertThat(queueManager.getQueueKey(getExternalId(0))).isEqualTo(genderTierKey);
+            assertThat(queueManager.getActiveQueueSizes()).containsEntry(genderTierKey, 1);
+
+            // when - 연결 해제
+            matchingService.disconnectUser(getExternalId(0), System.currentTimeMillis());
+
+            // then - 완화 대기열에서도 제거
+            assertThat(queueManager.getProfile(getExternalId(0))).isNull();
+            int totalSize = queueManager.getActiveQueueSizes().values().stream().mapToInt(Integer::intValue).sum();
+            assertThat(totalSize).isZero();
+        } finally {
+            matchingProperties.getRelaxation().setLanguageTierAfter(languageTierAfter);
+            matchingProperties.getRelaxation().setGenderTierAfter(genderTierAfter);
+        }
+    }
+
+    @DisplayName("relaySignal: 세션 상대에게 중계, 봉투(type, receiverId)가 잘못되면 중계하지 않음")
+    @Test
+    @Order(29)
+    void relaySignal_validatesEnvelopeOnly() {
+        // given - 세션 생성 (user 0 ↔ user 2)
+        createSessionBetween(0, 2);
+        String sender = getExternalId(0);
+        String partner = getExternalId(2);
+
+        SignalMessageDTO valid = SignalMessageDTO.builder()
+                .receiverId(partner).type(SignalType.CANDIDATE).data(RawJson.of("{\"candidate\":\"c1\"}")).build();
+        SignalMessageDTO missingType = SignalMessageDTO.builder()
+                .receiverId(partner).data(RawJson.of("{}")).build();
+        SignalMessageDTO missingReceiver = SignalMessageDTO.builder()
+                .type(SignalType.OFFER).data(RawJson.of("{}")).build();
+        SignalMessageDTO clientBatch = SignalMessageDTO.builder()
+                .receiverId(partner).type(SignalType.CANDIDATE_BATCH).data(RawJson.of("[]")).build();
+
+        // when
+        matchingService.relaySignal(sender, valid);
+        matchingService.relaySignal(sender, missingType);
+        matchingService.relaySignal(sender, missingReceiver);
+        matchingService.relaySignal(sender, clientBatch);
+
+        // then
+        then(signalingRelayer).should(times(1)).sendSignalingMessage(eq(sender), any(SignalMessageDTO.class));
+        then(signalingRelayer).should().sendSignalingMessage(sender, valid);
+    }
+
+    @DisplayName("processMatchingQueue: tick당 최대 파티션 수 제한 → 한 tick에 일부 파티션만, 이후 tick에서 나머지 처리")
+    @Test
+    @Order(30)
+    void processMatchingQueue_maxPartitions_rotatesPartitions() {
+        int maxPartitions = matchingProperties.getWorker().getMaxPartitions();
+
+        try {
+            // given - KO, EN 파티션에 각각 매칭 가능한 2명
+            matchingProperties.getWorker().setMaxPartitions(1);
+            enqueueUser(0, Language.KO, Region.KR);
+            enqueueUser(1, Language.KO, Region.KR);
+            enqueueUser(2, Language.EN, Region.US);
+            enqueueUser(3, Language.EN, Region.US);
+
+            // when - tick 한 번
+            matchingService.processMatchingQueue();
+
+            // then - 파티션 1개만 처리 (최대 한 쌍 매칭)
+            long matched = IntStream.range(0, 4)
+                    .filter(i -> sessionManager.getSessionByUserId(getExternalId(i)) != null)
+                    .count();
+            assertThat(matched).isLessThanOrEqualTo(2);
+
+            // when - 나머지 tick
+            for (int tick = 1; tick < QueueCode.PARTITIONS.size(); tick++) {
+                matchingService.processMatchingQueue();
+            }
+
+            // then - 시작 위치가 tick마다 이동하므로 모든 파티션을 한 번씩 처리
+            assertThat(IntStream.range(0, 4))
+                    .allSatisfy(i -> assertThat(sessionManager.getSessionByUserId(getExternalId(i))).isNotNull());
+        } finally {
+            matchingProperties.getWorker().setMaxPartitions(maxPartitions);
+        }
+    }
+
+    @DisplayName("processMatchingQueue: 매칭 결과는 파티션 락 해제 후 전송")
+    @Test
+    @Order(31)
+    void processMatchingQueue_sendsResultsAfterUnlock() throws Exception {
+        // given
+        enqueueUser(0, Language.KO, Region.KR);
+        enqueueUser(1, Language.KO, Region.KR);
+
+        // 전송 시점에 다른 스레드(노드)가 KO 파티션 락을 획득할 수 있는지 기록
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        List<Boolean> lockAvailable = new ArrayList<>();
+        willAnswer(invocation -> {
+            lockAvailable.add(other.submit(() -> {
+                RLock lock = redissonClient.getLock(RedisKeyBuilder.buildLockKey(Language.KO));
+                boolean acquired = lock.tryLock(1, 1, TimeUnit.SECONDS);
+                if (acquired) {
+                    lock.unlock();
+                }
+                return acquired;
+            }).get());
+            return null;
+        }).given(signalingRelayer).sendMatchingResult(anyString(), any());
+
+        try {
+            // when
+            matchingService.processMatchingQueue();
+        } finally {
+            other.shutdown();
+        }
+
+        // then
+        assertThat(lockAvailable).hasSize(2).containsOnly(true);
+    }
+
     // === 헬퍼 메서드 ===
 
     private List<UserInfoDTO> createUserList(int count) {
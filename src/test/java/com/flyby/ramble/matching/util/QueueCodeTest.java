@@ -0,0 +1,65 @@
+package com.flyby.ramble.matching.util;
+
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.QueueTier;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.user.model.Gender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueueCode 테스트")
+class QueueCodeTest {
+
+    @Test
+    @DisplayName("toKey: 기존 대기열 키 형식 유지 + 동일 인스턴스 반환")
+    void toKey_keepsFormatAndReturnsSameInstance() {
+        int code = QueueCode.of(Gender.MALE, Language.KO, Region.KR);
+
+        assertThat(QueueCode.toKey(code)).isEqualTo("match:queue:MALE:KO:KR");
+        assertThat(QueueCode.toKey(code)).isSameAs(RedisKeyBuilder.buildQueueKey(Gender.MALE, Language.KO, Region.KR));
+    }
+
+    @Test
+    @DisplayName("parse: 키 → 코드 왕복, 알 수 없는 키 → -1")
+    void parse_roundTrip() {
+        for (Gender gender : Gender.values()) {
+            for (Language language : Language.values()) {
+                for (Region region : Region.values()) {
+                    int code = QueueCode.of(gender, language, region);
+                    assertThat(QueueCode.parse(QueueCode.toKey(code))).isEqualTo(code);
+                }
+            }
+        }
+
+        assertThat(QueueCode.parse("match:queue:UNKNOWN_KEY")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("QueueTier: 지역 → 언어 순으로 완화, ANY 필드는 키에 ANY로 표기")
+    void tier_relaxesToWildcardKey() {
+        int code = QueueCode.of(Gender.FEMALE, Language.EN, Region.US);
+
+        int language = QueueTier.LANGUAGE.apply(code);
+        int gender   = QueueTier.GENDER.apply(code);
+
+        assertThat(QueueTier.EXACT.apply(code)).isEqualTo(code);
+        assertThat(QueueCode.toKey(language)).isEqualTo("match:queue:FEMALE:EN:ANY");
+        assertThat(QueueCode.toKey(gender)).isEqualTo("match:queue:FEMALE:ANY:ANY");
+        assertThat(QueueTier.LANGUAGE.apply(gender)).isEqualTo(gender);
+        assertThat(QueueCode.toKey(QueueCode.MERGED)).isEqualTo("match:queue:ANY:ANY:ANY");
+    }
+
+    @Test
+    @DisplayName("partitionOf: 언어 세그먼트 기준, 언어 완화 대기열은 ANY 파티션")
+    void partitionOf_languageOrWildcard() {
+        int code = QueueCode.of(Gender.MALE, Language.KO, Region.KR);
+
+        assertThat(QueueCode.partitionOf(code)).isEqualTo("KO");
+        assertThat(QueueCode.partitionOf(QueueTier.LANGUAGE.apply(code))).isEqualTo("KO");
+        assertThat(QueueCode.partitionOf(QueueTier.GENDER.apply(code))).isEqualTo(QueueCode.WILDCARD);
+        assertThat(QueueCode.PARTITIONS).hasSize(Language.values().length + 1).contains(QueueCode.WILDCARD);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.flyby.ramble.matching.worker;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.manager.QueueManager;
+import com.flyby.ramble.matching.service.MatchingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@DisplayName("MatchingWorker 테스트")
+@ExtendWith(MockitoExtension.class)
+class MatchingWorkerTest {
+
+    @Mock
+    private MatchingService matchingService;
+
+    @Mock
+    private QueueManager queueManager;
+
+    private MatchingProperties matchingProperties;
+    private MeterRegistry meterRegistry;
+    private MatchingWorker matchingWorker;
+
+    @BeforeEach
+    void setUp() {
+        matchingProperties = new MatchingProperties();
+        matchingProperties.getWorker().setTickBudget(Duration.ofMillis(50));
+
+        meterRegistry = new SimpleMeterRegistry();
+        matchingWorker = new MatchingWorker(matchingService, queueManager, matchingProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("tick: 처리 시간 기록, 예산 이내 → overrun 없음")
+    void tick_withinBudget_recordsDurationOnly() {
+        // when
+        matchingWorker.tick();
+
+        // then
+        assertThat(meterRegistry.get("matching.tick.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("matching.tick.overrun").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("tick: 예산 초과 → overrun 증가")
+    void tick_overBudget_incrementsOverrun() {
+        // given
+        willAnswer(invocation -> {
+            Thread.sleep(80);
+            return null;
+        }).given(matchingService).processMatchingQueue(anyInt());
+
+        // when
+        matchingWorker.tick();
+
+        // then
+        assertThat(meterRegistry.get("matching.tick.overrun").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("tick: 예산 초과 → 최대 poll 인원 절반 (하한 유지), 여유 → step만큼 증가 (상한 유지)")
+    void tick_adjustsBatchLimit() {
+        // given
+        matchingProperties.getWorker().setBatchLimitMin(3000);
+        matchingProperties.getWorker().setBatchLimitMax(10000);
+        matchingProperties.getWorker().setBatchLimitStep(1000);
+        matchingWorker = new MatchingWorker(matchingService, queueManager, matchingProperties, new SimpleMeterRegistry());
+
+        willAnswer(invocation -> {
+            Thread.sleep(80);
+            return null;
+        }).given(matchingService).processMatchingQueue(anyInt());
+
+        // when: 예산 초과 2회
+        matchingWorker.tick();
+        matchingWorker.tick();
+
+        // then
+        then(matchingService).should().processMatchingQueue(10000);
+        then(matchingService).should().processMatchingQueue(5000);
+        assertThat(matchingWorker.getBatchLimit()).isEqualTo(3000);
+
+        // when: 예산 여유
+        willAnswer(invocation -> null).given(matchingService).processMatchingQueue(anyInt());
+        matchingWorker.tick();
+
+        // then
+        assertThat(matchingWorker.getBatchLimit()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("tick: 매칭 오류 → 처리 시간은 기록 후 예외 전파")
+    void tick_exception_stillRecordsDuration() {
+        // given
+        willThrow(new IllegalStateException("boom")).given(matchingService).processMatchingQueue(anyInt());
+
+        // when & then
+        assertThatThrownBy(() -> matchingWorker.tick()).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("matching.tick.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("queue.depth: 활성 대기열 인원 합계")
+    void queueDepth_sumsActiveQueues() {
+        // given
+        given(queueManager.getActiveQueueSizes()).willReturn(Map.of("q1", 3, "q2", 4));
+
+        // when & then
+        assertThat(meterRegistry.get("matching.queue.depth").gauge().value()).isEqualTo(7);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.flyby.ramble.matching.worker;
+
+import com.flyby.ramble.common.properties.MatchingProperties;
+import com.flyby.ramble.matching.dto.ExpirySweepResult;
+import com.flyby.ramble.matching.manager.QueueManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@DisplayName("QueueExpirySweeper 테스트")
+@ExtendWith(MockitoExtension.class)
+class QueueExpirySweeperTest {
+
+    @Mock
+    private QueueManager queueManager;
+
+    private MeterRegistry meterRegistry;
+    private QueueExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        MatchingProperties matchingProperties = new MatchingProperties();
+        matchingProperties.getExpiry().setSliceSize(10);
+
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new QueueExpirySweeper(queueManager, matchingProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("sweep: 이전 slice의 커서에서 이어서 순회 + 제거 수 기록")
+    void sweep_continuesFromNextOffset() {
+        // given
+        given(queueManager.sweepExpired("0", 10)).willReturn(new ExpirySweepResult("10", 3));
+        given(queueManager.sweepExpired("10", 10)).willReturn(new ExpirySweepResult("0", 0));
+
+        // when
+        sweeper.sweep();
+        sweeper.sweep();
+        sweeper.sweep();
+
+        // then - 끝까지 돈 뒤 처음부터 (첫 slice에서 두 번 3건씩 제거)
+        then(queueManager).should().sweepExpired("10", 10);
+        then(queueManager).should(times(2)).sweepExpired("0", 10);
+        assertThat(meterRegistry.get("matching.queue.expired").counter().count()).isEqualTo(6);
+    }
+
+}
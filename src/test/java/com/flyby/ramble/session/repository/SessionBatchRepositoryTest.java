@@ -28,6 +28,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -301,6 +302,61 @@ class SessionBatchRepositoryTest {
         System.out.println("1000개 세션 배치 저장 소요 시간: " + elapsedTime + "ms");
     }
 
+    @DisplayName("saveSessionsWithParticipants: 생성 키 매핑 → 세션별 참가자 정확히 연결 (BATCH_SIZE 초과)")
+    @Test
+    @Order(8)
+    void saveSessionsWithParticipants_generatedKeys_mapParticipantsToSessions() {
+        // given
+        int sessionCount = 600;
+        List<SessionData> sessionDataList = createSessionDataList(sessionCount);
+
+        // when
+        sessionBatchRepository.saveSessionsWithParticipants(sessionDataList);
+
+        // then - 각 세션의 참가자가 해당 SessionData의 참가자와 일치
+        for (SessionData sessionData : sessionDataList) {
+            Session session = sessionRepository.findByExternalId(sessionData.sessionId()).orElseThrow();
+
+            assertThat(session.getParticipants())
+                    .extracting(p -> p.getUser().getId())
+                    .containsExactlyInAnyOrderElementsOf(
+                            sessionData.participants().stream().map(ParticipantData::userId).toList());
+        }
+    }
+
+    @DisplayName("[성능] external_id v4(random) vs v7(시간 순) 배치 저장")
+    @Test
+    @Order(9)
+    void saveSessionsWithParticipants_performance_uuidV4VsV7() {
+        // given - 인덱스가 커진 뒤의 삽입 비용을 보기 위해 라운드마다 누적 저장
+        int sessionCount = 5000;
+        int rounds = 4;
+
+        long v4Elapsed = 0;
+        long v7Elapsed = 0;
+
+        for (int round = 0; round < rounds; round++) {
+            List<SessionData> v4 = createSessionDataList(sessionCount).stream()
+                    .map(session -> new SessionData(UUID.randomUUID(), session.startedAt(), session.participants()))
+                    .toList();
+            List<SessionData> v7 = createSessionDataList(sessionCount);
+
+            long start = System.nanoTime();
+            sessionBatchRepository.saveSessionsWithParticipants(v4);
+            v4Elapsed += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sessionBatchRepository.saveSessionsWithParticipants(v7);
+            v7Elapsed += System.nanoTime() - start;
+        }
+
+        // then
+        assertThat(sessionRepository.count()).isEqualTo((long) sessionCount * rounds * 2);
+
+        System.out.println("[성능] 세션 배치 저장 v4 (" + sessionCount * rounds + "개): " + v4Elapsed / 1_000_000 + "ms");
+        System.out.println("[성능] 세션 배치 저장 v7 (" + sessionCount * rounds + "개): " + v7Elapsed / 1_000_000 + "ms");
+    }
+
     private List<SessionData> createSessionDataList(int count) {
         return IntStream.range(0, count)
                 .mapToObj(i -> {
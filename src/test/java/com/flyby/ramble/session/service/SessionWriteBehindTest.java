@@ -0,0 +1,252 @@
+package com.flyby.ramble.session.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flyby.ramble.common.properties.SessionProperties;
+import com.flyby.ramble.matching.model.Language;
+import com.flyby.ramble.matching.model.Region;
+import com.flyby.ramble.session.dto.ParticipantData;
+import com.flyby.ramble.session.dto.SessionData;
+import com.flyby.ramble.user.model.Gender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("SessionWriteBehind 테스트")
+@ExtendWith(MockitoExtension.class)
+class SessionWriteBehindTest {
+
+    @Mock
+    private SessionService sessionService;
+
+    @TempDir
+    private Path tempDir;
+
+    private SessionProperties sessionProperties;
+    private MeterRegistry meterRegistry;
+    private SessionWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        sessionProperties = new SessionProperties();
+        sessionProperties.getWriteBehind().setCapacity(10);
+        sessionProperties.getWriteBehind().setBatchSize(4);
+        sessionProperties.getWriteBehind().setSpillPath(tempDir.resolve("spill.jsonl").toString());
+
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = createWriteBehind();
+    }
+
+    @Test
+    @DisplayName("flush: batchSize 단위 group commit")
+    void flush_commitsInBatches() {
+        // given
+        writeBehind.submit(createSessions(10));
+
+        // when
+        writeBehind.flush();
+
+        // then
+        ArgumentCaptor<List<SessionData>> captor = ArgumentCaptor.captor();
+        then(sessionService).should(times(3)).saveSessions(captor.capture());
+
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(writeBehind.getQueueSize()).isZero();
+        assertThat(meterRegistry.get("session.writebehind.flushed").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("submit: 큐 초과 → spill 파일 기록, 다음 flush에서 재저장")
+    void submit_overCapacity_spillsAndReplays() {
+        // given
+        List<SessionData> sessions = createSessions(12);
+
+        // when
+        writeBehind.submit(sessions);
+
+        // then
+        assertThat(writeBehind.getQueueSize()).isEqualTo(10);
+        assertThat(writeBehind.getSpillSize()).isPositive();
+        assertThat(meterRegistry.get("session.writebehind.spilled").counter().count()).isEqualTo(2);
+
+        // when
+        List<SessionData> saved = captureSaved();
+        writeBehind.flush();
+
+        // then
+        assertThat(saved).containsExactlyInAnyOrderElementsOf(sessions);
+        assertThat(writeBehind.getSpillSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: DB 장애 → spill 후 중단, DB 복구 후 spill + 큐 저장")
+    void flush_databaseDown_spillsAndRecovers() {
+        // given
+        List<SessionData> sessions = createSessions(8);
+        writeBehind.submit(sessions);
+        willThrow(new DataAccessResourceFailureException("down")).given(sessionService).saveSessions(anyList());
+
+        // when - 첫 batch 실패 → spill, 나머지는 큐에 보관
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.getSpillSize()).isPositive();
+        assertThat(writeBehind.getQueueSize()).isEqualTo(4);
+
+        // when - spill 재저장도 실패하면 큐는 그대로
+        writeBehind.flush();
+        assertThat(writeBehind.getQueueSize()).isEqualTo(4);
+
+        // when - DB 복구
+        List<SessionData> saved = captureSaved();
+        writeBehind.flush();
+
+        // then
+        assertThat(saved).containsExactlyInAnyOrderElementsOf(sessions);
+        assertThat(writeBehind.getQueueSize()).isZero();
+        assertThat(writeBehind.getSpillSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 트랜잭션 시작 실패 (DB 연결 불가) → batch 유실 없이 spill, DB 복구 후 저장")
+    void flush_cannotCreateTransaction_spillsAndRecovers() {
+        // given
+        List<SessionData> sessions = createSessions(4);
+        writeBehind.submit(sessions);
+        willThrow(new CannotCreateTransactionException("connection refused"))
+                .given(sessionService).saveSessions(anyList());
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.getSpillSize()).isPositive();
+        assertThat(writeBehind.getQueueSize()).isZero();
+
+        // when - DB 복구
+        List<SessionData> saved = captureSaved();
+        writeBehind.flush();
+
+        // then
+        assertThat(saved).containsExactlyInAnyOrderElementsOf(sessions);
+        assertThat(writeBehind.getSpillSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작: 이전 프로세스의 spill 파일 재저장, 이미 저장된 세션은 건너뜀")
+    void restart_replaysSpill_skipsDuplicates() throws Exception {
+        // given - 종료 시 DB 장애로 spill
+        List<SessionData> sessions = createSessions(3);
+        writeBehind.submit(sessions);
+        willThrow(new DataAccessResourceFailureException("down")).given(sessionService).saveSessions(anyList());
+        writeBehind.drain();
+        assertThat(Files.readAllLines(Path.of(sessionProperties.getSpillPath()))).hasSize(3);
+
+        // given - 재시작, 첫 세션은 이미 저장됨
+        SessionWriteBehind restarted = createWriteBehind();
+        List<SessionData> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<SessionData> batch = invocation.getArgument(0);
+            if (batch.contains(sessions.get(0))) {
+                throw new DuplicateKeyException("duplicate");
+            }
+            saved.addAll(batch);
+            return null;
+        }).given(sessionService).saveSessions(anyList());
+
+        // when
+        restarted.flush();
+
+        // then
+        assertThat(saved).containsExactly(sessions.get(1), sessions.get(2));
+        assertThat(restarted.getSpillSize()).isZero();
+        assertThat(meterRegistry.get("session.writebehind.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 재시도할 수 없는 오류 → 해당 세션만 rejected 파일에 기록하고 나머지는 저장, spill 없음")
+    void flush_nonTransientFailure_rejectsOnlyBadSession() throws Exception {
+        // given - 두 번째 세션은 매핑 오류
+        List<SessionData> sessions = createSessions(4);
+        writeBehind.submit(sessions);
+        List<SessionData> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<SessionData> batch = invocation.getArgument(0);
+            if (batch.contains(sessions.get(1))) {
+                throw new IllegalArgumentException("bad participant");
+            }
+            saved.addAll(batch);
+            return null;
+        }).given(sessionService).saveSessions(anyList());
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(saved).containsExactly(sessions.get(0), sessions.get(2), sessions.get(3));
+        assertThat(writeBehind.getSpillSize()).isZero();
+        assertThat(writeBehind.getQueueSize()).isZero();
+        assertThat(Files.readAllLines(tempDir.resolve("spill.jsonl.rejected"))).hasSize(1);
+        assertThat(meterRegistry.get("session.writebehind.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush: 빈 큐 → 저장 호출 없음")
+    void flush_empty_noCommit() {
+        // when
+        writeBehind.flush();
+
+        // then
+        then(sessionService).should(never()).saveSessions(anyList());
+    }
+
+    private List<SessionData> captureSaved() {
+        List<SessionData> saved = new ArrayList<>();
+        willAnswer(invocation -> saved.addAll(invocation.getArgument(0))).given(sessionService).saveSessions(anyList());
+        return saved;
+    }
+
+    private SessionWriteBehind createWriteBehind() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        return new SessionWriteBehind(sessionService, sessionProperties, objectMapper, meterRegistry);
+    }
+
+    private List<SessionData> createSessions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SessionData(LocalDateTime.now(), List.of(
+                        new ParticipantData((long) i * 2, "user-" + i * 2, Region.KR, Gender.MALE, Language.KO),
+                        new ParticipantData((long) i * 2 + 1, "user-" + (i * 2 + 1), Region.KR, Gender.FEMALE, Language.KO)
+                )))
+                .toList();
+    }
+
+}